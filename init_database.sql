@@ -20,3 +20,70 @@ SELECT DATABASE();
 
 -- 테이블이 자동 생성되므로 여기서는 확인만 합니다
 SELECT 'Database labeleven is ready for AWS RDS!' as status;
+
+-- ------------------------------------------------------------------
+-- 파이프라인 단계 상태 정규화 (pipelines.step_statuses → pipeline_steps)
+-- 애플리케이션 기동 시 PipelineDataMigration이 기존 행을 자동으로 옮깁니다.
+-- 모든 노드 배포 후 옮겨지지 않은 행이 없는지 확인하고 컬럼을 삭제하세요.
+-- ------------------------------------------------------------------
+-- SELECT COUNT(*) FROM pipelines WHERE step_statuses IS NOT NULL;
+-- ALTER TABLE pipelines DROP COLUMN step_statuses;
+
+-- ------------------------------------------------------------------
+-- 파이프라인 결과 분리 (pipelines.*_result → pipeline_results, LONGTEXT)
+-- 애플리케이션 기동 시 PipelineDataMigration이 기존 결과를 자동으로 옮깁니다.
+-- ------------------------------------------------------------------
+-- SELECT COUNT(*) FROM pipelines WHERE schema_result IS NOT NULL OR diagnosis_result IS NOT NULL;
+-- ALTER TABLE pipelines
+--     DROP COLUMN schema_result, DROP COLUMN translation_result, DROP COLUMN diagnosis_result,
+--     DROP COLUMN checklist_result, DROP COLUMN final_report_result;
+
+-- ------------------------------------------------------------------
+-- 목록 키셋 페이지네이션 인덱스 (ddl-auto: update 환경에서는 자동 생성)
+-- ------------------------------------------------------------------
+-- CREATE INDEX idx_projects_user_created ON projects (user_id, created_at, id);
+-- CREATE INDEX idx_reports_created ON reports (created_at, id);
+
+-- ------------------------------------------------------------------
+-- label_data id 시퀀스 전환 (IDENTITY → label_data_seq, increment 50)
+-- 시퀀스는 ddl-auto로 생성되며, 기동 시 LabelDataSequenceInitializer가 기존 MAX(id) 이후로 시작값을 보정합니다.
+-- ------------------------------------------------------------------
+-- SELECT next_not_cached_value FROM label_data_seq;
+-- SELECT MAX(id) FROM label_data;
+
+-- ------------------------------------------------------------------
+-- 업로드 파일 내용 주소 저장 (uploads/blobs/ab/cd/<sha256>, 동일 내용은 한 번만 저장)
+-- project_files 테이블은 ddl-auto로 생성되며, 이전 uploads/{projectId}/ 파일은 그대로 남습니다.
+-- ------------------------------------------------------------------
+-- SELECT sha256, COUNT(*) AS refs, MAX(size) AS size FROM project_files GROUP BY sha256 HAVING refs > 1;
+
+-- ------------------------------------------------------------------
+-- 청크 업로드 세션 (upload_sessions, ddl-auto로 생성)
+-- 받은 데이터는 uploads/partial/<id>에 있으며 만료 세션은 주기적으로 정리됩니다.
+-- ------------------------------------------------------------------
+-- SELECT status, COUNT(*), SUM(received_bytes) FROM upload_sessions GROUP BY status;
+
+-- ------------------------------------------------------------------
+-- 번역 메모리 (translation_memory, ddl-auto로 생성)
+-- (language, source_hash) 유니크. source_hash는 정규화한 원문(NFKC, 공백 정리, 소문자)의 SHA-256
+-- ------------------------------------------------------------------
+-- SELECT language, COUNT(*) FROM translation_memory GROUP BY language;
+
+-- ------------------------------------------------------------------
+-- 단계 결과 메모 (stage_outputs, ddl-auto로 생성)
+-- (stage, input_hash) 유니크. input_hash는 id를 뺀 단계 요청 + ai.stage-versions 값의 SHA-256
+-- 모델/프롬프트를 바꾸면 해당 단계 버전을 올리거나 행을 삭제하세요.
+-- ------------------------------------------------------------------
+-- SELECT stage, COUNT(*), SUM(hit_count) FROM stage_outputs GROUP BY stage;
+
+-- ------------------------------------------------------------------
+-- 파이프라인 작업 큐 (pipeline_jobs, ddl-auto로 생성)
+-- 워커가 SELECT ... FOR UPDATE SKIP LOCKED로 가져가므로 MariaDB 10.6 이상이 필요합니다.
+-- 임대(lease_expires_at)가 만료된 RUNNING 작업은 다른 노드가 pipelines.attempt를 올려 이어받습니다.
+-- ------------------------------------------------------------------
+-- SELECT status, lease_owner, COUNT(*) FROM pipeline_jobs GROUP BY status, lease_owner;
+
+-- ------------------------------------------------------------------
+-- 노드 간 SSE 진행 이벤트 (progress_events, ddl-auto로 생성)
+-- 각 노드가 id 순으로 폴링해 자기 SSE 구독자에게 전달하며, sse.fanout.retention이 지나면 삭제됩니다.
+-- ------------------------------------------------------------------
@@ -0,0 +1,58 @@
+package com.labeleven.client;
+
+import com.labeleven.service.PipelineStage;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai")
+public class AiClientProperties {
+
+    private String baseUrl = "http://localhost:8000";
+
+    private int maxConnections = 50;
+
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    // 유휴 커넥션 유지 시간 (서버가 Keep-Alive 헤더를 주지 않을 때 기준)
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    private boolean gzipRequests = true;
+
+    private Duration defaultTimeout = Duration.ofSeconds(60);
+
+    // 단계별 응답 타임아웃 (예: ai.timeouts.diagnosis=5m)
+    private Map<PipelineStage, Duration> timeouts = new EnumMap<>(PipelineStage.class);
+
+    // 단계별 모델/프롬프트 버전 (올리면 해당 단계의 저장된 결과 메모를 더 이상 재사용하지 않음)
+    private Map<PipelineStage, String> stageVersions = new EnumMap<>(PipelineStage.class);
+
+    private Stub stub = new Stub();
+
+    public Duration timeoutFor(PipelineStage stage) {
+        return timeouts.getOrDefault(stage, defaultTimeout);
+    }
+
+    public String versionFor(PipelineStage stage) {
+        return stageVersions.getOrDefault(stage, "1");
+    }
+
+    @Getter
+    @Setter
+    public static class Stub {
+
+        private boolean enabled = false;
+
+        private int port = 0; // 0이면 임의 포트
+
+        private Duration latency = Duration.ofMillis(200);
+
+        private int payloadSize = 4096; // 응답 본문 크기 (bytes)
+    }
+}
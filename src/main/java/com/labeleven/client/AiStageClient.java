@@ -0,0 +1,10 @@
+package com.labeleven.client;
+
+import com.labeleven.service.PipelineStage;
+
+// 파이프라인 단계별 AI(FastAPI) 호출 추상화
+public interface AiStageClient {
+
+    // 요청 JSON을 보내고 단계 결과 JSON을 그대로 반환
+    String execute(PipelineStage stage, String requestJson);
+}
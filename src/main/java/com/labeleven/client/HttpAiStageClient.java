@@ -0,0 +1,95 @@
+package com.labeleven.client;
+
+import com.labeleven.service.PipelineStage;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+// 커넥션 풀 + Keep-Alive 기반 FastAPI 단계 호출 클라이언트
+@Slf4j
+public class HttpAiStageClient implements AiStageClient, AutoCloseable {
+
+    private final String baseUrl;
+    private final AiClientProperties properties;
+    private final CloseableHttpClient httpClient;
+
+    public HttpAiStageClient(String baseUrl, AiClientProperties properties) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.properties = properties;
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(5))
+                        .build())
+                .build();
+
+        TimeValue keepAlive = TimeValue.of(properties.getKeepAlive());
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAlive)
+                .build();
+    }
+
+    @Override
+    public String execute(PipelineStage stage, String requestJson) {
+        HttpPost post = new HttpPost(baseUrl + "/api/stages/" + stage.getPath());
+        post.setConfig(RequestConfig.custom()
+                .setResponseTimeout(Timeout.of(properties.timeoutFor(stage)))
+                .build());
+        post.setEntity(createEntity(requestJson));
+
+        try {
+            return httpClient.execute(post, response -> {
+                String body = response.getEntity() != null
+                        ? EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8)
+                        : null;
+                if (response.getCode() >= 300) {
+                    throw new RuntimeException("AI 서버 오류 (" + stage.getStepName() + "): HTTP " + response.getCode());
+                }
+                return body;
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("AI 서버 호출 실패 (" + stage.getStepName() + "): " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    private ByteArrayEntity createEntity(String requestJson) {
+        byte[] body = requestJson.getBytes(StandardCharsets.UTF_8);
+        if (!properties.isGzipRequests()) {
+            return new ByteArrayEntity(body, ContentType.APPLICATION_JSON);
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(body.length / 4, 64));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new RuntimeException("요청 압축 실패", e);
+        }
+        return new ByteArrayEntity(buffer.toByteArray(), ContentType.APPLICATION_JSON, "gzip");
+    }
+}
@@ -0,0 +1,107 @@
+package com.labeleven.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+// 네트워크 없이 파이프라인 처리량을 측정하기 위한 프로세스 내 AI 서버 대역 (ai.stub.enabled=true)
+@Slf4j
+public class StubAiStageServer implements AutoCloseable {
+
+    private final AiClientProperties.Stub settings;
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong receivedBytes = new AtomicLong();
+
+    public StubAiStageServer(AiClientProperties.Stub settings) throws IOException {
+        this.settings = settings;
+        // 헤더/본문 분할 전송 시 Nagle 지연(~40ms)이 측정값을 왜곡하지 않도록 (첫 HttpServer 생성 전에만 유효)
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", settings.getPort()), 128);
+        this.workers = Executors.newCachedThreadPool();
+        server.setExecutor(workers);
+        server.createContext("/api/stages/", this::handle);
+        server.start();
+        log.info("AI 스텁 서버 시작: {} (latency={}, payloadSize={})",
+                getBaseUrl(), settings.getLatency(), settings.getPayloadSize());
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getReceivedBytes() {
+        return receivedBytes.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        workers.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String stage = exchange.getRequestURI().getPath().substring("/api/stages/".length());
+            receivedBytes.addAndGet(drain(exchange));
+            requestCount.incrementAndGet();
+
+            sleep(settings.getLatency().toMillis());
+
+            byte[] body = buildPayload(stage);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    // Keep-Alive가 유지되도록 요청 본문을 끝까지 읽음
+    private long drain(HttpExchange exchange) throws IOException {
+        InputStream in = exchange.getRequestBody();
+        if ("gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+            in = new GZIPInputStream(in);
+        }
+        long total = 0;
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            total += read;
+        }
+        return total;
+    }
+
+    private byte[] buildPayload(String stage) {
+        String prefix = "{\"stage\":\"" + stage + "\",\"status\":\"OK\",\"data\":\"";
+        String suffix = "\"}";
+        int fill = Math.max(settings.getPayloadSize() - prefix.length() - suffix.length(), 0);
+        return (prefix + "x".repeat(fill) + suffix).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.labeleven.config;
+
+import com.labeleven.client.AiClientProperties;
+import com.labeleven.client.AiStageClient;
+import com.labeleven.client.HttpAiStageClient;
+import com.labeleven.client.StubAiStageServer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+@EnableConfigurationProperties(AiClientProperties.class)
+public class AiClientConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "ai.stub", name = "enabled", havingValue = "true")
+    public StubAiStageServer stubAiStageServer(AiClientProperties properties) throws IOException {
+        return new StubAiStageServer(properties.getStub());
+    }
+
+    // 스텁 서버가 켜져 있으면 base-url 대신 스텁 주소로 호출
+    @Bean(destroyMethod = "close")
+    public AiStageClient aiStageClient(AiClientProperties properties,
+                                       ObjectProvider<StubAiStageServer> stubServer) {
+        StubAiStageServer stub = stubServer.getIfAvailable();
+        String baseUrl = stub != null ? stub.getBaseUrl() : properties.getBaseUrl();
+        return new HttpAiStageClient(baseUrl, properties);
+    }
+}
@@ -0,0 +1,127 @@
+package com.labeleven.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    @Value("${pipeline.executor.core-pool-size:4}")
+    private int pipelineCorePoolSize;
+
+    @Value("${pipeline.executor.max-pool-size:8}")
+    private int pipelineMaxPoolSize;
+
+    @Value("${pipeline.executor.queue-capacity:200}")
+    private int pipelineQueueCapacity;
+
+    @Value("${pipeline.stage-executor.core-pool-size:8}")
+    private int stageCorePoolSize;
+
+    @Value("${pipeline.stage-executor.max-pool-size:16}")
+    private int stageMaxPoolSize;
+
+    @Value("${pipeline.stage-executor.queue-capacity:400}")
+    private int stageQueueCapacity;
+
+    @Value("${label-data.import-executor.pool-size:2}")
+    private int importPoolSize;
+
+    @Value("${label-data.import-executor.queue-capacity:50}")
+    private int importQueueCapacity;
+
+    @Value("${storage.io-executor.pool-size:8}")
+    private int storageIoPoolSize;
+
+    @Value("${storage.io-executor.queue-capacity:16}")
+    private int storageIoQueueCapacity;
+
+    @Value("${storage.images.preprocess.pool-size:0}")
+    private int imageProcessingPoolSize;
+
+    @Value("${storage.images.preprocess.queue-capacity:200}")
+    private int imageProcessingQueueCapacity;
+
+    // 파이프라인 실행 전용 풀 (큐가 가득 차면 TaskRejectedException)
+    @Bean
+    public ThreadPoolTaskExecutor pipelineTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pipelineCorePoolSize);
+        executor.setMaxPoolSize(pipelineMaxPoolSize);
+        executor.setQueueCapacity(pipelineQueueCapacity);
+        executor.setThreadNamePrefix("pipeline-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 파이프라인 내 병렬 가능한 단계 실행용 풀 (파이프라인 풀과 분리해 교착 방지)
+    // 포화 시 거절 대신 호출 스레드에서 실행해 단계 future가 완료되지 않는 상황을 막음
+    @Bean
+    public ThreadPoolTaskExecutor pipelineStageTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(stageCorePoolSize);
+        executor.setMaxPoolSize(stageMaxPoolSize);
+        executor.setQueueCapacity(stageQueueCapacity);
+        executor.setThreadNamePrefix("pipeline-stage-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 업로드 파일 → 라벨 데이터 가져오기 전용 풀 (CPU/DB를 많이 쓰므로 동시 실행 수를 작게 제한)
+    @Bean
+    public ThreadPoolTaskExecutor labelImportTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(importPoolSize);
+        executor.setMaxPoolSize(importPoolSize);
+        executor.setQueueCapacity(importQueueCapacity);
+        executor.setThreadNamePrefix("label-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 업로드 파일 저장(해시/디스크 쓰기)용 풀
+    // 포화 시 요청 스레드가 직접 저장하도록 해 큐가 무한히 쌓이지 않게 함 (역압)
+    @Bean
+    public ThreadPoolTaskExecutor storageIoTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(storageIoPoolSize);
+        executor.setMaxPoolSize(storageIoPoolSize);
+        executor.setQueueCapacity(storageIoQueueCapacity);
+        executor.setThreadNamePrefix("storage-io-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 업로드 이미지 전처리(디코딩/축소/인코딩) 전용 풀. CPU 위주 작업이라 기본 크기는 코어 수
+    // 포화 시 거절되며 축소본은 파이프라인에서 필요할 때 생성됨
+    @Bean
+    public ThreadPoolTaskExecutor imageProcessingTaskExecutor() {
+        int poolSize = imageProcessingPoolSize > 0
+                ? imageProcessingPoolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(imageProcessingQueueCapacity);
+        executor.setThreadNamePrefix("image-process-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,33 @@
+package com.labeleven.config;
+
+import com.labeleven.entity.LabelData;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// label_data.id를 AUTO_INCREMENT에서 시퀀스로 전환할 때 기존 행과 id가 겹치지 않도록 시퀀스 시작값 보정
+// (스키마 생성 이후, 요청을 받기 전에 실행되도록 EntityManagerFactory 초기화 뒤에 수행)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LabelDataSequenceInitializer {
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    
+    @PostConstruct
+    public void alignSequence() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM label_data", Long.class);
+        Long nextValue = jdbcTemplate.queryForObject("SELECT next_not_cached_value FROM label_data_seq", Long.class);
+        
+        // pooled 할당 시 시퀀스 값 V에서 (V - allocationSize, V] 구간을 사용하므로 V가 MAX(id) + allocationSize 이상이어야 함
+        long required = maxId + LabelData.ID_ALLOCATION_SIZE;
+        if (nextValue != null && nextValue < required) {
+            jdbcTemplate.execute("ALTER SEQUENCE label_data_seq RESTART WITH " + required);
+            log.info("label_data_seq 시작값 보정: {} -> {}", nextValue, required);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.labeleven.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.labeleven.dto.PipelineDTO;
+import com.labeleven.service.PipelineStage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 기존 파이프라인 데이터를 새 스키마로 옮기는 기동 시 마이그레이션 (여러 노드가 동시에 실행해도 안전)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "pipeline.migration", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PipelineDataMigration implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+    private static final List<String> RESULT_COLUMN_LIST =
+            List.of("schema_result", "translation_result", "diagnosis_result", "checklist_result", "final_report_result");
+    private static final String RESULT_COLUMNS = String.join(", ", RESULT_COLUMN_LIST);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrateStepStatuses();
+        migrateResults();
+        enqueueOrphanedPipelines();
+    }
+
+    // 작업 큐 도입 전부터 RUNNING인 파이프라인(실행하던 노드가 재시작됨)을 임대 만료 작업으로 등록
+    // 워커가 바로 이어받아 완료되지 않은 단계부터 실행. (pipeline_id, attempt) 유니크라 여러 노드가 실행해도 한 번만 등록
+    private void enqueueOrphanedPipelines() {
+        int enqueued = jdbcTemplate.update(
+                "INSERT IGNORE INTO pipeline_jobs " +
+                "(pipeline_id, attempt, status, lease_owner, lease_expires_at, claim_count, created_at, updated_at) " +
+                "SELECT p.id, COALESCE(p.attempt, 1), 'RUNNING', 'migration', NOW(), 0, NOW(), NOW() FROM pipelines p " +
+                "WHERE p.status = 'RUNNING' " +
+                "AND NOT EXISTS (SELECT 1 FROM pipeline_jobs j WHERE j.pipeline_id = p.id)");
+
+        if (enqueued > 0) {
+            log.info("실행 중이던 파이프라인 작업 등록: {}건", enqueued);
+        }
+    }
+
+    // pipelines.step_statuses(JSON) → pipeline_steps 행. 옮긴 행은 step_statuses를 NULL로 비움
+    private void migrateStepStatuses() {
+        if (!columnExists("pipelines", "step_statuses")) {
+            return;
+        }
+
+        int migrated = 0;
+        int count;
+        do {
+            count = transactionTemplate.execute(status -> migrateStepStatusBatch());
+            migrated += count;
+        } while (count > 0);
+
+        if (migrated > 0) {
+            log.info("pipeline_steps 마이그레이션 완료: {}건", migrated);
+        }
+    }
+
+    private int migrateStepStatusBatch() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, step_statuses FROM pipelines WHERE step_statuses IS NOT NULL ORDER BY id LIMIT ? FOR UPDATE",
+                BATCH_SIZE);
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> ids = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            Long pipelineId = ((Number) row.get("id")).longValue();
+            List<PipelineDTO.StepStatus> steps = parseSteps(pipelineId, (String) row.get("step_statuses"));
+
+            for (int order = 0; order < steps.size(); order++) {
+                PipelineDTO.StepStatus step = steps.get(order);
+                inserts.add(new Object[]{
+                        pipelineId,
+                        order,
+                        step.getStepName(),
+                        step.getStatus() != null ? step.getStatus() : "PENDING",
+                        step.getProgress() != null ? step.getProgress() : 0,
+                        step.getMessage(),
+                        step.getStartedAt(),
+                        step.getCompletedAt()
+                });
+            }
+            ids.add(new Object[]{pipelineId});
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO pipeline_steps " +
+                "(pipeline_id, step_order, step_name, status, progress, message, started_at, completed_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                inserts);
+        jdbcTemplate.batchUpdate("UPDATE pipelines SET step_statuses = NULL WHERE id = ?", ids);
+
+        return rows.size();
+    }
+
+    // pipelines.*_result → pipeline_results. 옮긴 행은 원래 컬럼을 NULL로 비움
+    private void migrateResults() {
+        if (!columnExists("pipelines", "schema_result")) {
+            return;
+        }
+
+        int migrated = 0;
+        int count;
+        do {
+            count = transactionTemplate.execute(status -> migrateResultBatch());
+            migrated += count;
+        } while (count > 0);
+
+        if (migrated > 0) {
+            log.info("pipeline_results 마이그레이션 완료: {}건", migrated);
+        }
+    }
+
+    private int migrateResultBatch() {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM pipelines " +
+                "WHERE schema_result IS NOT NULL OR translation_result IS NOT NULL OR diagnosis_result IS NOT NULL " +
+                "OR checklist_result IS NOT NULL OR final_report_result IS NOT NULL " +
+                "ORDER BY id LIMIT ? FOR UPDATE",
+                Long.class, BATCH_SIZE);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String idList = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        // 결과는 조회 시 그대로 응답에 포함되므로 올바른 JSON이 아닌 기존 값은 빈 객체로 바꿔 옮김
+        List<Long> invalid = jdbcTemplate.queryForList(
+                "SELECT id FROM pipelines WHERE id IN (" + idList + ") AND (" +
+                RESULT_COLUMN_LIST.stream()
+                        .map(column -> "(" + column + " IS NOT NULL AND NOT JSON_VALID(" + column + "))")
+                        .collect(Collectors.joining(" OR ")) + ")",
+                Long.class);
+        if (!invalid.isEmpty()) {
+            log.warn("올바른 JSON이 아닌 결과를 빈 객체로 대체: pipelineIds={}", invalid);
+        }
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO pipeline_results (pipeline_id, " + RESULT_COLUMNS + ") " +
+                "SELECT id, " +
+                RESULT_COLUMN_LIST.stream()
+                        .map(column -> "CASE WHEN " + column + " IS NULL OR JSON_VALID(" + column + ") " +
+                                "THEN " + column + " ELSE '{}' END")
+                        .collect(Collectors.joining(", ")) +
+                " FROM pipelines WHERE id IN (" + idList + ")");
+        jdbcTemplate.update(
+                "UPDATE pipelines SET schema_result = NULL, translation_result = NULL, diagnosis_result = NULL, " +
+                "checklist_result = NULL, final_report_result = NULL WHERE id IN (" + idList + ")");
+
+        return ids.size();
+    }
+
+    // 파싱 실패 시 기본 단계(PENDING)로 채움
+    private List<PipelineDTO.StepStatus> parseSteps(Long pipelineId, String json) {
+        try {
+            return objectMapper.readValue(
+                    json,
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, PipelineDTO.StepStatus.class)
+            );
+        } catch (Exception e) {
+            log.warn("step_statuses 파싱 실패, 기본 단계로 대체: pipelineId={}", pipelineId);
+            List<PipelineDTO.StepStatus> steps = new ArrayList<>();
+            for (PipelineStage stage : PipelineStage.values()) {
+                steps.add(PipelineDTO.StepStatus.builder()
+                        .stepName(stage.getStepName())
+                        .status("PENDING")
+                        .progress(0)
+                        .build());
+            }
+            return steps;
+        }
+    }
+
+    private boolean columnExists(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?",
+                Integer.class, table, column);
+        return count != null && count > 0;
+    }
+}
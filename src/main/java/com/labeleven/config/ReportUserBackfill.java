@@ -0,0 +1,37 @@
+package com.labeleven.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// reports.user_id 추가 전에 만든 보고서에 프로젝트 소유자 id를 채움 (목록 조회가 user_id 인덱스만 사용)
+// (스키마 생성 이후, 요청을 받기 전에 실행되도록 EntityManagerFactory 초기화 뒤에 수행. 나눠서 갱신해 잠금을 짧게 유지)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportUserBackfill {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void backfill() {
+        int filled = 0;
+        int count;
+        do {
+            count = jdbcTemplate.update(
+                    "UPDATE reports SET user_id = (SELECT p.user_id FROM projects p WHERE p.id = reports.project_id) " +
+                    "WHERE user_id IS NULL AND project_id IS NOT NULL LIMIT " + BATCH_SIZE);
+            filled += count;
+        } while (count > 0);
+
+        if (filled > 0) {
+            log.info("reports.user_id 채움: {}건", filled);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.labeleven.config;
 
 import com.labeleven.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +14,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -24,6 +27,15 @@ import java.util.Arrays;
 @RequiredArgsConstructor
 public class SecurityConfig {
     
+    // 인증 없이 허용하는 경로 (JwtAuthenticationFilter도 이 경로는 토큰을 검사하지 않음)
+    public static final String[] PUBLIC_PATHS = {
+        "/api/auth/**",
+        // Swagger 경로
+        "/v3/api-docs/**",
+        "/swagger-ui/**",
+        "/swagger-ui.html"
+    };
+    
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     
     @Bean
@@ -33,13 +45,12 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers(
-                    "/api/auth/**",
-                    // Swagger 경로
-                    "/v3/api-docs/**",
-                    "/swagger-ui/**",
-                    "/swagger-ui.html"
-                ).permitAll()
+                // SSE 스트림의 비동기 디스패치 (최초 요청에서 이미 인증됨)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                // 업로드 서블릿이 별도로 등록되어 있으므로 서블릿 경로 기준(Ant) 매처를 명시
+                .requestMatchers(Arrays.stream(PUBLIC_PATHS)
+                        .map(AntPathRequestMatcher::antMatcher)
+                        .toArray(RequestMatcher[]::new)).permitAll()
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -0,0 +1,72 @@
+package com.labeleven.config;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.labeleven.storage.LocalStorageBackend;
+import com.labeleven.storage.S3StorageBackend;
+import com.labeleven.storage.S3StorageProperties;
+import com.labeleven.storage.StorageBackend;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+
+import java.nio.file.Paths;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties(S3StorageProperties.class)
+public class StorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "local", matchIfMissing = true)
+    public StorageBackend localStorageBackend(@Value("${storage.upload-dir:uploads}") String uploadDir) {
+        return new LocalStorageBackend(Paths.get(uploadDir));
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "storage", name = "backend", havingValue = "s3")
+    public StorageBackend s3StorageBackend(S3StorageProperties properties,
+                                           @Qualifier("storageIoTaskExecutor") TaskExecutor storageIoTaskExecutor) {
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(credentials(properties))
+                .withClientConfiguration(new ClientConfiguration().withMaxConnections(properties.getMaxConnections()))
+                .withPathStyleAccessEnabled(properties.isPathStyleAccess());
+        String endpoint = properties.getEndpoint();
+        if (endpoint != null && !endpoint.isBlank()) {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, properties.getRegion()));
+        } else {
+            builder.withRegion(properties.getRegion());
+        }
+        AmazonS3 s3 = builder.build();
+
+        TransferManager transferManager = TransferManagerBuilder.standard()
+                .withS3Client(s3)
+                .withMultipartUploadThreshold(properties.getMultipartThreshold().toBytes())
+                .withMinimumUploadPartSize(properties.getPartSize().toBytes())
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(properties.getTransferThreads()))
+                .build();
+
+        return new S3StorageBackend(s3, transferManager, properties.getBucket(),
+                properties.getPartSize().toBytes(), storageIoTaskExecutor);
+    }
+
+    private AWSCredentialsProvider credentials(S3StorageProperties properties) {
+        if (properties.getAccessKey() == null || properties.getAccessKey().isBlank()) {
+            return DefaultAWSCredentialsProviderChain.getInstance();
+        }
+        return new AWSStaticCredentialsProvider(
+                new BasicAWSCredentials(properties.getAccessKey(), properties.getSecretKey()));
+    }
+}
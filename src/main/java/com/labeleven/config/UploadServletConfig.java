@@ -0,0 +1,23 @@
+package com.labeleven.config;
+
+import com.labeleven.controller.StreamingUploadServlet;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UploadServletConfig {
+
+    // DispatcherServlet과 별도로 등록 (multipart 해석/임시 파일 없이 비동기로 본문을 읽음)
+    // Spring Security 필터 체인은 모든 서블릿에 적용되므로 JWT 인증은 그대로 거침
+    @Bean
+    public ServletRegistrationBean<StreamingUploadServlet> streamingUploadServletRegistration(
+            StreamingUploadServlet servlet) {
+        ServletRegistrationBean<StreamingUploadServlet> registration =
+                new ServletRegistrationBean<>(servlet, StreamingUploadServlet.MAPPING);
+        registration.setName("streamingUploadServlet");
+        registration.setAsyncSupported(true);
+        registration.setLoadOnStartup(1);
+        return registration;
+    }
+}
@@ -1,7 +1,10 @@
 package com.labeleven.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.labeleven.dto.ApiResponse;
 import com.labeleven.dto.LabelDataDTO;
+import com.labeleven.security.UserPrincipal;
+import com.labeleven.service.LabelDataExporter;
 import com.labeleven.service.LabelDataService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,8 +12,12 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "라벨 데이터 API", description = "라벨링 데이터 조회 및 관리 API")
 @RestController
@@ -21,10 +28,12 @@ import org.springframework.web.bind.annotation.*;
 public class LabelDataController {
     
     private final LabelDataService labelDataService;
+    private final LabelDataExporter labelDataExporter;
+    private final ObjectMapper objectMapper;
     
     @Operation(
         summary = "프로젝트의 라벨 데이터 목록 조회",
-        description = "특정 프로젝트에 속한 모든 라벨 데이터를 조회합니다. " +
+        description = "특정 프로젝트에 속한 라벨 데이터를 id 순으로 페이지 단위 조회합니다. " +
                      "업로드된 CSV/Excel 파일에서 추출된 라벨 정보들이 반환됩니다. " +
                      "각 데이터에는 라벨 텍스트, 카테고리, 상태 정보 등이 포함됩니다."
     )
@@ -41,15 +50,52 @@ public class LabelDataController {
     @GetMapping("/project/{projectId}")
     public ResponseEntity<ApiResponse<LabelDataDTO.ListResponse>> getProjectLabelData(
             @Parameter(description = "프로젝트 ID", required = true, example = "1")
-            @PathVariable Long projectId) {
+            @PathVariable Long projectId,
+            
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) Long cursor,
+            
+            @Parameter(description = "페이지 크기 (기본 100, 최대 1000)", example = "100")
+            @RequestParam(required = false) Integer size,
+            
+            Authentication authentication) {
         try {
-            LabelDataDTO.ListResponse response = labelDataService.getProjectLabelData(projectId);
+            Long userId = UserPrincipal.from(authentication).getId();
+            LabelDataDTO.ListResponse response = labelDataService.getProjectLabelData(projectId, userId, cursor, size);
             return ResponseEntity.ok(ApiResponse.success(response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         }
     }
     
+    @Operation(
+        summary = "프로젝트의 라벨 데이터 개수 조회",
+        description = "특정 프로젝트에 속한 전체 라벨 데이터 개수를 조회합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "프로젝트를 찾을 수 없음"
+        )
+    })
+    @GetMapping("/project/{projectId}/count")
+    public ResponseEntity<ApiResponse<Long>> countProjectLabelData(
+            @Parameter(description = "프로젝트 ID", required = true, example = "1")
+            @PathVariable Long projectId,
+            
+            Authentication authentication) {
+        try {
+            Long userId = UserPrincipal.from(authentication).getId();
+            return ResponseEntity.ok(ApiResponse.success(labelDataService.countProjectLabelData(projectId, userId)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
     @Operation(
         summary = "특정 라벨 데이터 상세 조회",
         description = "개별 라벨 데이터의 상세 정보를 조회합니다. " +
@@ -68,12 +114,90 @@ public class LabelDataController {
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<LabelDataDTO.Response>> getLabelData(
             @Parameter(description = "라벨 데이터 ID", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            
+            Authentication authentication) {
         try {
-            LabelDataDTO.Response response = labelDataService.getLabelData(id);
+            Long userId = UserPrincipal.from(authentication).getId();
+            LabelDataDTO.Response response = labelDataService.getLabelData(id, userId);
             return ResponseEntity.ok(ApiResponse.success(response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         }
     }
-}
\ No newline at end of file
+    
+    @Operation(
+        summary = "프로젝트의 라벨 데이터 일괄 등록",
+        description = "특정 프로젝트에 라벨 데이터를 대량으로 등록합니다. " +
+                     "항목은 일정 개수씩 나뉘어 배치 insert로 저장되며, 청크마다 커밋됩니다. " +
+                     "모든 항목에는 fieldName, originalValue, category가 필요합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "등록 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "필수 값 누락 또는 권한 없음"
+        )
+    })
+    @PostMapping("/project/{projectId}/bulk")
+    public ResponseEntity<ApiResponse<LabelDataDTO.BulkCreateResponse>> bulkCreateLabelData(
+            @Parameter(description = "프로젝트 ID", required = true, example = "1")
+            @PathVariable Long projectId,
+            
+            @RequestBody LabelDataDTO.BulkCreateRequest request,
+            
+            Authentication authentication) {
+        try {
+            Long userId = UserPrincipal.from(authentication).getId();
+            LabelDataDTO.BulkCreateResponse response = labelDataService.bulkInsert(projectId, userId, request.getLabelData());
+            return ResponseEntity.ok(ApiResponse.success("라벨 데이터 등록 완료", response));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    @Operation(
+        summary = "프로젝트의 라벨 데이터 내보내기",
+        description = "특정 프로젝트의 라벨 데이터 전체를 NDJSON 또는 CSV 파일로 내려받습니다. " +
+                     "데이터를 조회하는 대로 응답에 기록하므로 프로젝트 크기와 관계없이 사용할 수 있습니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "내보내기 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "지원하지 않는 형식이거나 권한 없음"
+        )
+    })
+    @GetMapping("/project/{projectId}/export")
+    public ResponseEntity<StreamingResponseBody> exportProjectLabelData(
+            @Parameter(description = "프로젝트 ID", required = true, example = "1")
+            @PathVariable Long projectId,
+            
+            @Parameter(description = "내보내기 형식 (ndjson, csv)", example = "csv")
+            @RequestParam(defaultValue = "ndjson") String format,
+            
+            Authentication authentication) {
+        try {
+            Long userId = UserPrincipal.from(authentication).getId();
+            LabelDataExporter.Format exportFormat = LabelDataExporter.Format.from(format);
+            labelDataExporter.checkAccess(projectId, userId);
+            
+            String filename = "label-data-" + projectId + "." + exportFormat.getExtension();
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                    .body(out -> labelDataExporter.export(projectId, exportFormat, out));
+        } catch (Exception e) {
+            ApiResponse<Void> error = ApiResponse.error(e.getMessage());
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, error));
+        }
+    }
+}
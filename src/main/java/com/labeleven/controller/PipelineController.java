@@ -2,7 +2,10 @@ package com.labeleven.controller;
 
 import com.labeleven.dto.ApiResponse;
 import com.labeleven.dto.PipelineDTO;
+import com.labeleven.security.UserPrincipal;
 import com.labeleven.service.PipelineService;
+import com.labeleven.service.ProgressBroadcaster;
+import com.labeleven.service.TranslationMemoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -12,6 +15,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
 
 @Tag(name = "파이프라인 API", description = "AI 파이프라인 실행, 모니터링 및 제어 관련 API")
 @RestController
@@ -22,6 +29,8 @@ import org.springframework.web.bind.annotation.*;
 public class PipelineController {
     
     private final PipelineService pipelineService;
+    private final ProgressBroadcaster progressBroadcaster;
+    private final TranslationMemoryService translationMemoryService;
     
     @Operation(
         summary = "파이프라인 실행",
@@ -48,8 +57,8 @@ public class PipelineController {
             
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            PipelineDTO.Response response = pipelineService.executePipeline(email, request);
+            Long userId = UserPrincipal.from(authentication).getId();
+            PipelineDTO.Response response = pipelineService.executePipeline(userId, request);
             return ResponseEntity.ok(ApiResponse.success("파이프라인 실행 시작", response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
@@ -79,19 +88,51 @@ public class PipelineController {
             
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            PipelineDTO.Response response = pipelineService.getPipelineStatus(email, id);
+            Long userId = UserPrincipal.from(authentication).getId();
+            PipelineDTO.Response response = pipelineService.getPipelineStatus(userId, id);
             return ResponseEntity.ok(ApiResponse.success(response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         }
     }
     
+    @Operation(
+        summary = "파이프라인 진행 상황 스트림 (SSE)",
+        description = "단계/진행률 변경을 Server-Sent Events로 전송합니다 (이벤트명: progress). " +
+                     "연결 직후 현재 상태를 보내고, 15초마다 heartbeat 주석을 보냅니다. " +
+                     "재연결 시 Last-Event-ID 헤더를 보내면 놓친 이벤트만 다시 받습니다. " +
+                     "종료 상태(COMPLETED/FAILED/STOPPED) 이벤트 후에는 연결이 닫힙니다."
+    )
+    @GetMapping("/{id}/events")
+    public SseEmitter streamPipelineEvents(
+            @Parameter(description = "파이프라인 ID", required = true, example = "1")
+            @PathVariable Long id,
+            
+            @Parameter(description = "재연결 시 마지막으로 받은 이벤트 ID")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            
+            Authentication authentication) {
+        try {
+            Long userId = UserPrincipal.from(authentication).getId();
+            PipelineDTO.Response current = pipelineService.getPipelineStatus(userId, id);
+            if (!"RUNNING".equals(current.getStatus())) {
+                return progressBroadcaster.sendLast("progress", current);
+            }
+            // 위 조회 후 구독 전에 종료됐으면 구독 시 스냅샷으로 종료 상태를 보내고 닫음
+            return progressBroadcaster.subscribe(ProgressBroadcaster.pipelineChannel(id), lastEventId,
+                    () -> Map.of("progress", pipelineService.getPipelineStatus(userId, id)),
+                    snapshot -> !"RUNNING".equals(((PipelineDTO.Response) snapshot.get("progress")).getStatus()));
+        } catch (Exception e) {
+            return progressBroadcaster.sendLast("error", ApiResponse.error(e.getMessage()));
+        }
+    }
+    
     @Operation(
         summary = "파이프라인 실행 결과 조회",
         description = "완료된 파이프라인의 실행 결과를 조회합니다. " +
                      "모델 성능 지표, 생성된 아티팩트, 로그, 오류 정보 등이 포함됩니다. " +
-                     "정확도, 손실값, F1 스코어 등의 메트릭을 확인할 수 있습니다."
+                     "정확도, 손실값, F1 스코어 등의 메트릭을 확인할 수 있습니다. " +
+                     "parts로 필요한 단계(schema, translation, diagnosis, checklist, final-report)만 선택할 수 있습니다."
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -108,10 +149,13 @@ public class PipelineController {
             @Parameter(description = "파이프라인 ID", required = true, example = "1")
             @PathVariable Long id,
             
+            @Parameter(description = "조회할 결과 항목 (쉼표 구분, 미지정 시 전체)", example = "diagnosis,checklist")
+            @RequestParam(required = false) List<String> parts,
+            
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            PipelineDTO.ResultResponse response = pipelineService.getPipelineResult(email, id);
+            Long userId = UserPrincipal.from(authentication).getId();
+            PipelineDTO.ResultResponse response = pipelineService.getPipelineResult(userId, id, parts);
             return ResponseEntity.ok(ApiResponse.success(response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
@@ -141,14 +185,45 @@ public class PipelineController {
             
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            pipelineService.stopPipeline(email, id);
+            Long userId = UserPrincipal.from(authentication).getId();
+            pipelineService.stopPipeline(userId, id);
             return ResponseEntity.ok(ApiResponse.success("파이프라인 중단 성공", null));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         }
     }
     
+    @Operation(
+        summary = "파이프라인 재개",
+        description = "실패했거나 중단된 파이프라인을 첫 번째 미완료 단계부터 이어서 실행합니다. " +
+                     "이미 완료된 단계는 다시 실행하지 않고 저장된 결과를 후속 단계에 사용합니다. " +
+                     "처음부터 다시 실행하려면 재실행을 사용하세요."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "재개 시작"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "실패/중단 상태가 아니거나 승인되지 않은 보고서"
+        )
+    })
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<ApiResponse<PipelineDTO.Response>> resumePipeline(
+            @Parameter(description = "재개할 파이프라인 ID", required = true, example = "1")
+            @PathVariable Long id,
+            
+            Authentication authentication) {
+        try {
+            Long userId = UserPrincipal.from(authentication).getId();
+            PipelineDTO.Response response = pipelineService.resumePipeline(userId, id);
+            return ResponseEntity.ok(ApiResponse.success("파이프라인 재개 시작", response));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
     @Operation(
         summary = "파이프라인 재실행",
         description = "이전에 실행했던 파이프라인을 동일한 설정으로 다시 실행합니다. " +
@@ -172,11 +247,31 @@ public class PipelineController {
             
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            PipelineDTO.Response response = pipelineService.reExecutePipeline(email, id);
+            Long userId = UserPrincipal.from(authentication).getId();
+            PipelineDTO.Response response = pipelineService.reExecutePipeline(userId, id);
             return ResponseEntity.ok(ApiResponse.success("파이프라인 재실행 시작", response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         }
     }
+    
+    @Operation(
+        summary = "번역 메모리 통계",
+        description = "번역 단계에서 번역 메모리(메모리 캐시 → DB) 적중/미적중 수와 캐시 크기를 조회합니다. " +
+                     "적중/미적중은 이 서버가 시작된 뒤 누적된 원문 종류 기준입니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        )
+    })
+    @GetMapping("/translation-memory/stats")
+    public ResponseEntity<ApiResponse<PipelineDTO.TranslationMemoryStats>> getTranslationMemoryStats() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(translationMemoryService.getStats()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
 }
\ No newline at end of file
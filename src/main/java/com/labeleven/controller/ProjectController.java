@@ -2,17 +2,31 @@ package com.labeleven.controller;
 
 import com.labeleven.dto.ApiResponse;
 import com.labeleven.dto.ProjectDTO;
+import com.labeleven.security.UserPrincipal;
+import com.labeleven.service.ProjectFileService;
 import com.labeleven.service.ProjectService;
+import com.labeleven.service.ResumableUploadService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @Tag(name = "프로젝트 API", description = "라벨링 프로젝트 생성, 조회, 삭제 및 파일 업로드 관련 API")
 @RestController
@@ -23,6 +37,9 @@ import org.springframework.web.multipart.MultipartFile;
 public class ProjectController {
     
     private final ProjectService projectService;
+    private final ProjectFileService projectFileService;
+    private final ResumableUploadService resumableUploadService;
+    private final ObjectMapper objectMapper;
     
     @Operation(
         summary = "프로젝트 생성 및 파일 업로드",
@@ -52,13 +69,13 @@ public class ProjectController {
             
             Authentication authentication) {
         try {
-            String email = authentication.getName();
+            Long userId = UserPrincipal.from(authentication).getId();
             ProjectDTO.CreateRequest request = ProjectDTO.CreateRequest.builder()
                     .title(title)
                     .country(country)
                     .build();
             
-            ProjectDTO.Response response = projectService.createProject(email, request, file);
+            ProjectDTO.Response response = projectService.createProject(userId, request, file);
             return ResponseEntity.ok(ApiResponse.success("프로젝트 생성 성공", response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
@@ -67,7 +84,8 @@ public class ProjectController {
     
     @Operation(
         summary = "사용자 프로젝트 목록 조회",
-        description = "현재 로그인한 사용자가 생성한 모든 프로젝트 목록을 조회합니다."
+        description = "현재 로그인한 사용자가 생성한 프로젝트 목록을 최신순으로 조회합니다. " +
+                     "다음 페이지는 응답의 nextCursor를 cursor로 전달해 조회합니다."
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -77,16 +95,43 @@ public class ProjectController {
     })
     @GetMapping
     public ResponseEntity<ApiResponse<ProjectDTO.ListResponse>> getProjects(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer size,
+            
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            ProjectDTO.ListResponse response = projectService.getUserProjects(email);
+            Long userId = UserPrincipal.from(authentication).getId();
+            ProjectDTO.ListResponse response = projectService.getUserProjects(userId, cursor, size);
             return ResponseEntity.ok(ApiResponse.success(response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         }
     }
     
+    @Operation(
+        summary = "프로젝트 개수 조회",
+        description = "현재 로그인한 사용자가 생성한 전체 프로젝트 개수를 조회합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        )
+    })
+    @GetMapping("/count")
+    public ResponseEntity<ApiResponse<Long>> countProjects(
+            Authentication authentication) {
+        try {
+            Long userId = UserPrincipal.from(authentication).getId();
+            return ResponseEntity.ok(ApiResponse.success(projectService.countUserProjects(userId)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
     @Operation(
         summary = "프로젝트 상세 조회",
         description = "특정 프로젝트의 상세 정보를 조회합니다. 프로젝트 ID가 필요합니다."
@@ -108,8 +153,8 @@ public class ProjectController {
             
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            ProjectDTO.Response response = projectService.getProject(id, email);
+            Long userId = UserPrincipal.from(authentication).getId();
+            ProjectDTO.Response response = projectService.getProject(id, userId);
             return ResponseEntity.ok(ApiResponse.success(response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
@@ -137,8 +182,8 @@ public class ProjectController {
             
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            projectService.deleteProject(id, email);
+            Long userId = UserPrincipal.from(authentication).getId();
+            projectService.deleteProject(id, userId);
             return ResponseEntity.ok(ApiResponse.success("프로젝트 삭제 성공", null));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
@@ -147,16 +192,21 @@ public class ProjectController {
     
     @Operation(
         summary = "프로젝트 이미지 업로드",
-        description = "특정 프로젝트에 여러 이미지 파일을 업로드합니다. (현재 구현 예정)"
+        description = "특정 프로젝트에 여러 이미지 파일(JPEG, PNG, WebP, GIF, TIFF, BMP)을 업로드합니다. " +
+                     "파일은 병렬로 저장되며, 파일별 성공/실패 결과를 요청 순서대로 반환합니다."
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200",
-            description = "업로드 성공"
+            description = "업로드 처리 완료 (파일별 결과 포함)"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "파일 없음, 개수 초과 또는 프로젝트 권한 없음"
         )
     })
     @PostMapping("/{id}/images")
-    public ResponseEntity<ApiResponse<Void>> uploadImages(
+    public ResponseEntity<ApiResponse<ProjectDTO.ImageUploadResponse>> uploadImages(
             @Parameter(description = "프로젝트 ID", required = true, example = "1")
             @PathVariable Long id,
             
@@ -165,11 +215,271 @@ public class ProjectController {
             
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            // 이미지 업로드 로직 구현
-            return ResponseEntity.ok(ApiResponse.success("이미지 업로드 성공", null));
+            Long userId = UserPrincipal.from(authentication).getId();
+            ProjectDTO.ImageUploadResponse response = projectFileService.uploadImages(id, userId, files);
+            String message = response.getFailureCount() == 0
+                    ? "이미지 업로드 성공"
+                    : "이미지 업로드 완료 (실패 " + response.getFailureCount() + "건)";
+            return ResponseEntity.ok(ApiResponse.success(message, response));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    @Operation(
+        summary = "청크 업로드 시작",
+        description = "multipart 제한(50MB)을 넘는 인쇄용 원본(PDF/TIFF 등)을 이어받기 가능한 청크로 업로드하기 위한 세션을 만듭니다. " +
+                     "응답의 uploadId와 offset(0)부터 청크를 전송합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "세션 생성 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "파일명/크기 누락, 크기 제한 초과 또는 프로젝트 권한 없음"
+        )
+    })
+    @PostMapping("/{id}/uploads")
+    public ResponseEntity<ApiResponse<ProjectDTO.UploadSessionResponse>> initUpload(
+            @Parameter(description = "프로젝트 ID", required = true, example = "1")
+            @PathVariable Long id,
+            
+            @RequestBody ProjectDTO.UploadInitRequest request,
+            
+            Authentication authentication) {
+        try {
+            Long userId = UserPrincipal.from(authentication).getId();
+            ProjectDTO.UploadSessionResponse response = resumableUploadService.init(id, userId, request);
+            return ResponseEntity.ok(ApiResponse.success("업로드 세션 생성 성공", response));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    @Operation(
+        summary = "청크 전송",
+        description = "요청 본문(application/octet-stream)을 offset 위치부터 기록합니다. " +
+                     "offset은 현재 위치 이하여야 하며, 전송이 끊겨도 받은 만큼은 저장되므로 조회한 위치부터 다시 보내면 됩니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "청크 기록 성공 (응답의 offset이 다음 위치)"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "위치 불일치, 청크 크기 초과 또는 전송 중단"
+        )
+    })
+    @PutMapping("/{id}/uploads/{uploadId}")
+    public ResponseEntity<ApiResponse<ProjectDTO.UploadSessionResponse>> uploadChunk(
+            @Parameter(description = "프로젝트 ID", required = true, example = "1")
+            @PathVariable Long id,
+            
+            @Parameter(description = "업로드 세션 ID", required = true)
+            @PathVariable String uploadId,
+            
+            @Parameter(description = "청크 시작 위치(바이트)", required = true, example = "0")
+            @RequestParam long offset,
+            
+            InputStream body,
+            
+            Authentication authentication) {
+        try {
+            Long userId = UserPrincipal.from(authentication).getId();
+            ProjectDTO.UploadSessionResponse response =
+                    resumableUploadService.writeChunk(id, userId, uploadId, offset, body);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    @Operation(
+        summary = "청크 업로드 위치 조회",
+        description = "서버에 저장된 위치(offset)를 조회합니다. 재시도 시 이 위치부터 전송합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        )
+    })
+    @GetMapping("/{id}/uploads/{uploadId}")
+    public ResponseEntity<ApiResponse<ProjectDTO.UploadSessionResponse>> getUpload(
+            @Parameter(description = "프로젝트 ID", required = true, example = "1")
+            @PathVariable Long id,
+            
+            @Parameter(description = "업로드 세션 ID", required = true)
+            @PathVariable String uploadId,
+            
+            Authentication authentication) {
+        try {
+            Long userId = UserPrincipal.from(authentication).getId();
+            return ResponseEntity.ok(ApiResponse.success(resumableUploadService.getStatus(id, userId, uploadId)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    @Operation(
+        summary = "청크 업로드 완료",
+        description = "모든 바이트를 받은 업로드를 프로젝트 파일로 등록합니다. 다시 호출하면 등록된 결과를 반환합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "완료 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "받지 않은 구간이 남아 있음"
+        )
+    })
+    @PostMapping("/{id}/uploads/{uploadId}/complete")
+    public ResponseEntity<ApiResponse<ProjectDTO.UploadSessionResponse>> completeUpload(
+            @Parameter(description = "프로젝트 ID", required = true, example = "1")
+            @PathVariable Long id,
+            
+            @Parameter(description = "업로드 세션 ID", required = true)
+            @PathVariable String uploadId,
+            
+            Authentication authentication) {
+        try {
+            Long userId = UserPrincipal.from(authentication).getId();
+            ProjectDTO.UploadSessionResponse response = resumableUploadService.complete(id, userId, uploadId);
+            return ResponseEntity.ok(ApiResponse.success("업로드 완료", response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         }
     }
+    
+    @Operation(
+        summary = "청크 업로드 취소",
+        description = "업로드 세션과 받은 데이터를 삭제합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "취소 성공"
+        )
+    })
+    @DeleteMapping("/{id}/uploads/{uploadId}")
+    public ResponseEntity<ApiResponse<Void>> abortUpload(
+            @Parameter(description = "프로젝트 ID", required = true, example = "1")
+            @PathVariable Long id,
+            
+            @Parameter(description = "업로드 세션 ID", required = true)
+            @PathVariable String uploadId,
+            
+            Authentication authentication) {
+        try {
+            Long userId = UserPrincipal.from(authentication).getId();
+            resumableUploadService.abort(id, userId, uploadId);
+            return ResponseEntity.ok(ApiResponse.success("업로드 취소", null));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    @Operation(
+        summary = "프로젝트 파일 목록 조회",
+        description = "프로젝트에 업로드된 파일(라벨 명세, 이미지, 인쇄용 원본) 목록을 조회합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        )
+    })
+    @GetMapping("/{id}/files")
+    public ResponseEntity<ApiResponse<List<ProjectDTO.FileResponse>>> getFiles(
+            @Parameter(description = "프로젝트 ID", required = true, example = "1")
+            @PathVariable Long id,
+            
+            Authentication authentication) {
+        try {
+            Long userId = UserPrincipal.from(authentication).getId();
+            return ResponseEntity.ok(ApiResponse.success(projectFileService.getFiles(id, userId)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    @Operation(
+        summary = "프로젝트 파일 다운로드",
+        description = "업로드된 원본 파일을 다운로드합니다. Range 헤더(bytes=시작-끝)를 보내면 해당 구간만 반환합니다(206)."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "다운로드 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "206",
+            description = "구간 다운로드 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "416",
+            description = "잘못된 Range"
+        )
+    })
+    @GetMapping("/{id}/files/{fileId}")
+    public ResponseEntity<StreamingResponseBody> downloadFile(
+            @Parameter(description = "프로젝트 ID", required = true, example = "1")
+            @PathVariable Long id,
+            
+            @Parameter(description = "파일 ID", required = true, example = "1")
+            @PathVariable Long fileId,
+            
+            @Parameter(description = "구간 요청 (예: bytes=0-1048575)")
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            
+            Authentication authentication) {
+        try {
+            Long userId = UserPrincipal.from(authentication).getId();
+            ProjectDTO.FileResponse file = projectFileService.getFile(id, userId, fileId);
+            long length = file.getSize();
+            
+            ResponseEntity.BodyBuilder builder;
+            long start = 0;
+            long end = length - 1;
+            if (range != null && length > 0) {
+                try {
+                    HttpRange httpRange = HttpRange.parseRanges(range).get(0);
+                    start = httpRange.getRangeStart(length);
+                    end = httpRange.getRangeEnd(length);
+                } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                    return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                            .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                            .build();
+                }
+                builder = ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            } else {
+                builder = ResponseEntity.ok();
+            }
+            
+            long rangeStart = start;
+            long rangeEnd = end;
+            return builder
+                    .contentType(file.getContentType() != null
+                            ? MediaType.parseMediaType(file.getContentType())
+                            : MediaType.APPLICATION_OCTET_STREAM)
+                    .contentLength(Math.max(end - start + 1, 0))
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename(file.getOriginalFilename(), StandardCharsets.UTF_8)
+                            .build()
+                            .toString())
+                    .body(out -> projectFileService.writeTo(file, rangeStart, rangeEnd, out));
+        } catch (Exception e) {
+            ApiResponse<Void> error = ApiResponse.error(e.getMessage());
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, error));
+        }
+    }
 }
\ No newline at end of file
@@ -1,7 +1,14 @@
 package com.labeleven.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.labeleven.dto.ApiResponse;
+import com.labeleven.dto.PipelineDTO;
 import com.labeleven.dto.ReportDTO;
+import com.labeleven.security.UserPrincipal;
+import com.labeleven.service.PipelineService;
+import com.labeleven.service.ProgressBroadcaster;
+import com.labeleven.service.ReportExport;
+import com.labeleven.service.ReportExporter;
 import com.labeleven.service.ReportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,9 +16,18 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Tag(name = "보고서 API", description = "라벨 정합성 체크 및 보고서 생성, 조회, 승인 관련 API")
 @RestController
@@ -22,6 +38,10 @@ import org.springframework.web.bind.annotation.*;
 public class ReportController {
     
     private final ReportService reportService;
+    private final PipelineService pipelineService;
+    private final ProgressBroadcaster progressBroadcaster;
+    private final ReportExporter reportExporter;
+    private final ObjectMapper objectMapper;
     
     @Operation(
         summary = "보고서 생성 요청 (U-REPORT-001)",
@@ -47,8 +67,8 @@ public class ReportController {
             
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            ReportDTO.Response response = reportService.createReport(email, request);
+            Long userId = UserPrincipal.from(authentication).getId();
+            ReportDTO.Response response = reportService.createReport(userId, request);
             return ResponseEntity.ok(ApiResponse.success("보고서 생성 요청 완료", response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
@@ -77,14 +97,47 @@ public class ReportController {
             
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            ReportDTO.StatusResponse response = reportService.getReportStatus(id, email);
+            Long userId = UserPrincipal.from(authentication).getId();
+            ReportDTO.StatusResponse response = reportService.getReportStatus(id, userId);
             return ResponseEntity.ok(ApiResponse.success(response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         }
     }
     
+    @Operation(
+        summary = "보고서 진행 상황 스트림 (SSE)",
+        description = "보고서 상태(report)와 해당 보고서 파이프라인의 진행 상황(pipeline)을 Server-Sent Events로 전송합니다. " +
+                     "연결 직후 현재 상태를 보내고, 15초마다 heartbeat 주석을 보냅니다. " +
+                     "재연결 시 Last-Event-ID 헤더를 보내면 놓친 이벤트만 다시 받습니다."
+    )
+    @GetMapping("/{id}/events")
+    public SseEmitter streamReportEvents(
+            @Parameter(description = "보고서 ID", required = true, example = "1")
+            @PathVariable Long id,
+            
+            @Parameter(description = "재연결 시 마지막으로 받은 이벤트 ID")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            
+            Authentication authentication) {
+        try {
+            Long userId = UserPrincipal.from(authentication).getId();
+            // 소유권 확인용. 전송할 상태는 구독 시 채널 락 안에서 다시 읽음 (보고서 스트림은 종료 상태 없이 유지)
+            reportService.getReportStatus(id, userId);
+            return progressBroadcaster.subscribe(ProgressBroadcaster.reportChannel(id), lastEventId, () -> {
+                Map<String, Object> snapshot = new LinkedHashMap<>();
+                snapshot.put("report", reportService.getReportStatus(id, userId));
+                PipelineDTO.Response pipeline = pipelineService.getLatestPipelineStatus(userId, id);
+                if (pipeline != null) {
+                    snapshot.put("pipeline", pipeline);
+                }
+                return snapshot;
+            });
+        } catch (Exception e) {
+            return progressBroadcaster.sendLast("error", ApiResponse.error(e.getMessage()));
+        }
+    }
+    
     @Operation(
         summary = "생성된 보고서 조회 (U-REPORT-003)",
         description = "완성된 보고서의 전체 내용을 조회합니다. " +
@@ -107,8 +160,8 @@ public class ReportController {
             
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            ReportDTO.Response response = reportService.getReport(id, email);
+            Long userId = UserPrincipal.from(authentication).getId();
+            ReportDTO.Response response = reportService.getReport(id, userId);
             return ResponseEntity.ok(ApiResponse.success(response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
@@ -139,8 +192,8 @@ public class ReportController {
             
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            ReportDTO.Response response = reportService.approveReport(email, request);
+            Long userId = UserPrincipal.from(authentication).getId();
+            ReportDTO.Response response = reportService.approveReport(userId, request);
             return ResponseEntity.ok(ApiResponse.success("처리 완료", response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
@@ -149,8 +202,9 @@ public class ReportController {
     
     @Operation(
         summary = "보고서 목록 조회 (U-REPORT-005)",
-        description = "사용자의 보고서 목록을 조회합니다. 보고서 타입으로 필터링 가능합니다. " +
-                     "예: CONSISTENCY(정합성), QUALITY(품질), STATISTICS(통계)"
+        description = "사용자의 보고서 목록을 최신순으로 조회합니다. 보고서 타입으로 필터링 가능합니다. " +
+                     "예: CONSISTENCY(정합성), QUALITY(품질), STATISTICS(통계). " +
+                     "다음 페이지는 응답의 nextCursor를 cursor로 전달해 조회합니다."
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -163,41 +217,89 @@ public class ReportController {
             @Parameter(description = "보고서 타입 필터 (선택사항)", example = "CONSISTENCY")
             @RequestParam(required = false) String reportType,
             
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer size,
+            
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            ReportDTO.ListResponse response = reportService.getUserReports(email, reportType);
+            Long userId = UserPrincipal.from(authentication).getId();
+            ReportDTO.ListResponse response = reportService.getUserReports(userId, reportType, cursor, size);
             return ResponseEntity.ok(ApiResponse.success(response));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
         }
     }
     
+    @Operation(
+        summary = "보고서 개수 조회",
+        description = "사용자의 전체 보고서 개수를 조회합니다. 보고서 타입으로 필터링 가능합니다."
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        )
+    })
+    @GetMapping("/count")
+    public ResponseEntity<ApiResponse<Long>> countReports(
+            @Parameter(description = "보고서 타입 필터 (선택사항)", example = "CONSISTENCY")
+            @RequestParam(required = false) String reportType,
+            
+            Authentication authentication) {
+        try {
+            Long userId = UserPrincipal.from(authentication).getId();
+            return ResponseEntity.ok(ApiResponse.success(reportService.countUserReports(userId, reportType)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
     @Operation(
         summary = "보고서 다운로드 (U-REPORT-006)",
-        description = "보고서를 PDF 또는 Excel 형식으로 다운로드합니다. (현재 구현 예정)"
+        description = "보고서와 최신 파이프라인 결과를 PDF 또는 Excel(xlsx) 파일로 다운로드합니다. " +
+                     "렌더링 결과는 보고서/파이프라인이 바뀌기 전까지 캐시되어 다시 받을 때는 파일만 전송합니다."
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200",
-            description = "다운로드 URL 반환"
+            description = "보고서 파일"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "지원하지 않는 형식이거나 권한 없음"
         )
     })
     @GetMapping("/{id}/download")
-    public ResponseEntity<ApiResponse<String>> downloadReport(
+    public ResponseEntity<StreamingResponseBody> downloadReport(
             @Parameter(description = "보고서 ID", required = true, example = "1")
             @PathVariable Long id,
             
-            @Parameter(description = "다운로드 형식", example = "PDF")
+            @Parameter(description = "다운로드 형식 (PDF, XLSX)", example = "PDF")
             @RequestParam(defaultValue = "PDF") String format,
             
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            // TODO: PDF/Excel 다운로드 구현
-            return ResponseEntity.ok(ApiResponse.success("다운로드 URL", "/downloads/report-" + id + ".pdf"));
+            Long userId = UserPrincipal.from(authentication).getId();
+            ReportExport export = reportExporter.prepare(id, userId, ReportExporter.Format.from(format));
+            
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(export.getFormat().getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename(export.getFilename(), StandardCharsets.UTF_8)
+                            .build()
+                            .toString());
+            if (export.isCached()) {
+                builder.contentLength(export.getCachedSize());
+            }
+            return builder.body(out -> reportExporter.write(export, out));
         } catch (Exception e) {
-            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+            ApiResponse<Void> error = ApiResponse.error(e.getMessage());
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, error));
         }
     }
     
@@ -222,8 +324,8 @@ public class ReportController {
             
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            reportService.deleteReport(id, email);
+            Long userId = UserPrincipal.from(authentication).getId();
+            reportService.deleteReport(id, userId);
             return ResponseEntity.ok(ApiResponse.success("보고서 삭제 완료", null));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
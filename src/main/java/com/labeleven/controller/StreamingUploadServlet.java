@@ -0,0 +1,226 @@
+package com.labeleven.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.labeleven.dto.ApiResponse;
+import com.labeleven.dto.ProjectDTO;
+import com.labeleven.security.OwnershipGuard;
+import com.labeleven.security.UserPrincipal;
+import com.labeleven.service.BlobSink;
+import com.labeleven.service.FileStorageService;
+import com.labeleven.service.ProjectFileService;
+import com.labeleven.service.ProjectService;
+import com.labeleven.service.StoredBlob;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 요청 본문(raw)을 multipart 임시 파일 없이 저장소로 바로 기록하는 비동기 업로드 서블릿
+// 본문은 ReadListener로 도착하는 만큼만 읽으므로 느린 클라이언트가 Tomcat 작업 스레드를 점유하지 않음
+//   POST /api/uploads/stream/projects?title=&country=&filename=   프로젝트 생성 + 라벨 명세(xlsx/csv)
+//   POST /api/uploads/stream/projects/{id}/images?filename=        프로젝트 이미지 (Content-Type: image/*)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamingUploadServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String MAPPING = "/api/uploads/stream/*";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern PROJECT_IMAGES = Pattern.compile("^/projects/(\\d+)/images/?$");
+    private static final Pattern PROJECTS = Pattern.compile("^/projects/?$");
+
+    private final transient FileStorageService fileStorageService;
+    private final transient ProjectService projectService;
+    private final transient ProjectFileService projectFileService;
+    private final transient OwnershipGuard ownershipGuard;
+    private final transient ObjectMapper objectMapper;
+
+    @Value("${storage.stream.max-file-size:1GB}")
+    private DataSize maxFileSize;
+
+    @Value("${storage.stream.timeout:30m}")
+    private Duration timeout;
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        UploadTarget target;
+        try {
+            Long userId = UserPrincipal.from(SecurityContextHolder.getContext().getAuthentication()).getId();
+            target = resolveTarget(request, userId);
+            if (request.getContentLengthLong() > maxFileSize.toBytes()) {
+                throw new RuntimeException("파일 크기 제한을 초과했습니다.");
+            }
+        } catch (RuntimeException e) {
+            writeJson(response, HttpServletResponse.SC_BAD_REQUEST, ApiResponse.error(e.getMessage()));
+            return;
+        }
+
+        AsyncContext async = request.startAsync();
+        async.setTimeout(timeout.toMillis());
+        ServletInputStream in = request.getInputStream();
+        UploadListener listener = new UploadListener(
+                async, in, fileStorageService.openSink(maxFileSize.toBytes()), target);
+        async.addListener(listener);
+        in.setReadListener(listener);
+    }
+
+    // 본문을 받기 전에 경로/파라미터/권한을 모두 확인
+    private UploadTarget resolveTarget(HttpServletRequest request, Long userId) {
+        String path = request.getPathInfo() != null ? request.getPathInfo() : "";
+        String filename = request.getParameter("filename");
+        if (filename == null || filename.isBlank()) {
+            throw new RuntimeException("filename 파라미터가 필요합니다.");
+        }
+        String contentType = request.getContentType();
+
+        Matcher images = PROJECT_IMAGES.matcher(path);
+        if (images.matches()) {
+            Long projectId = Long.valueOf(images.group(1));
+            ownershipGuard.checkProject(projectId, userId);
+            projectFileService.validateImageType(contentType);
+            return new UploadTarget(
+                    projectFileService::validateImageSignature,
+                    blob -> projectFileService.registerImage(projectId, blob, filename, contentType),
+                    "이미지 업로드 성공");
+        }
+
+        if (PROJECTS.matcher(path).matches()) {
+            ProjectDTO.CreateRequest createRequest = ProjectDTO.CreateRequest.builder()
+                    .title(request.getParameter("title"))
+                    .country(request.getParameter("country"))
+                    .build();
+            projectService.validateCreateRequest(createRequest, filename);
+            return new UploadTarget(
+                    head -> { },
+                    blob -> projectService.createProject(userId, createRequest, blob, filename, contentType),
+                    "프로젝트 생성 성공");
+        }
+
+        throw new RuntimeException("지원하지 않는 업로드 경로입니다: " + path);
+    }
+
+    private void writeJson(HttpServletResponse response, int status, ApiResponse<?> body) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    // validator: 저장 확정 전 앞부분 검사, registrar: 저장된 blob을 DB에 등록하고 응답 데이터 반환
+    private record UploadTarget(Consumer<byte[]> validator, Function<StoredBlob, Object> registrar, String message) {
+    }
+
+    private class UploadListener implements ReadListener, AsyncListener {
+
+        private final AsyncContext async;
+        private final ServletInputStream in;
+        private final BlobSink sink;
+        private final UploadTarget target;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private UploadListener(AsyncContext async, ServletInputStream in, BlobSink sink, UploadTarget target) {
+            this.async = async;
+            this.in = in;
+            this.sink = sink;
+            this.target = target;
+        }
+
+        // 바로 읽을 수 있는 만큼만 읽고 반환 (나머지는 데이터가 도착하면 컨테이너가 다시 호출)
+        @Override
+        public void onDataAvailable() {
+            try {
+                int read;
+                while (in.isReady() && (read = in.read(buffer)) != -1) {
+                    sink.write(buffer, 0, read);
+                }
+            } catch (IOException | RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        @Override
+        public void onAllDataRead() {
+            try {
+                target.validator().accept(sink.head());
+                StoredBlob blob = sink.commit();
+                finish(HttpServletResponse.SC_OK, ApiResponse.success(target.message(), target.registrar().apply(blob)));
+            } catch (RuntimeException e) {
+                fail(e);
+            } finally {
+                sink.close();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            fail(t);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            fail(new RuntimeException("업로드 시간이 초과되었습니다."));
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            fail(event.getThrowable());
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            sink.close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void fail(Throwable t) {
+            sink.close();
+            String message = t != null && t.getMessage() != null ? t.getMessage() : "업로드에 실패했습니다.";
+            log.warn("스트리밍 업로드 실패: {}", message);
+            finish(HttpServletResponse.SC_BAD_REQUEST, ApiResponse.error(message));
+        }
+
+        // 응답은 한 번만 기록
+        private void finish(int status, ApiResponse<?> body) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                HttpServletResponse response = (HttpServletResponse) async.getResponse();
+                if (!response.isCommitted()) {
+                    writeJson(response, status, body);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("업로드 응답 전송 실패", e);
+            } finally {
+                async.complete();
+            }
+        }
+    }
+}
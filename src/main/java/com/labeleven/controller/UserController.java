@@ -1,8 +1,7 @@
 package com.labeleven.controller;
 
 import com.labeleven.dto.ApiResponse;
-import com.labeleven.entity.User;
-import com.labeleven.repository.UserRepository;
+import com.labeleven.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,8 +22,6 @@ import java.util.Map;
 @SecurityRequirement(name = "Bearer Authentication")
 public class UserController {
     
-    private final UserRepository userRepository;
-    
     @Operation(
         summary = "현재 로그인한 사용자 정보 조회",
         description = "JWT 토큰을 통해 인증된 현재 사용자의 정보를 조회합니다. " +
@@ -54,9 +51,8 @@ public class UserController {
     public ResponseEntity<ApiResponse<Map<String, Object>>> getCurrentUser(
             Authentication authentication) {
         try {
-            String email = authentication.getName();
-            User user = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            // 토큰에 담긴 사용자 정보로 응답 (users 조회 없음)
+            UserPrincipal user = UserPrincipal.from(authentication);
             
             Map<String, Object> userData = new HashMap<>();
             userData.put("id", user.getId());
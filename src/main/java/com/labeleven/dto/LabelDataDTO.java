@@ -26,6 +26,37 @@ public class LabelDataDTO {
     @Builder
     public static class ListResponse {
         private List<Response> labelData;
-        private int totalCount;
+        private Long nextCursor; // 마지막 항목 id
+        private boolean hasNext;
+    }
+    
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CreateRequest {
+        private String fieldName;
+        private String originalValue;
+        private String translatedValue;
+        private String category;
+    }
+    
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BulkCreateRequest {
+        private List<CreateRequest> labelData;
+    }
+    
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BulkCreateResponse {
+        private int insertedCount;
     }
 }
@@ -1,5 +1,7 @@
 package com.labeleven.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -40,6 +42,7 @@ public class PipelineDTO {
     @AllArgsConstructor
     public static class StepStatus {
         private String stepName;
+        private List<String> dependsOn; // 선행 단계 이름
         private String status; // "PENDING", "RUNNING", "COMPLETED", "FAILED"
         private Integer progress;
         private String message;
@@ -51,12 +54,35 @@ public class PipelineDTO {
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class ResultResponse {
         private Long pipelineId;
-        private Map<String, Object> schemaResult;
-        private Map<String, Object> translationResult;
-        private Map<String, Object> diagnosisResult;
-        private Map<String, Object> checklistResult;
-        private Map<String, Object> finalReportResult;
+        // 저장된 JSON 문자열을 파싱 없이 그대로 출력 (요청하지 않은 항목은 생략)
+        @JsonRawValue
+        private String schemaResult;
+        @JsonRawValue
+        private String translationResult;
+        @JsonRawValue
+        private String diagnosisResult;
+        @JsonRawValue
+        private String checklistResult;
+        @JsonRawValue
+        private String finalReportResult;
     }
-}
\ No newline at end of file
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TranslationMemoryStats {
+        private long hotTierHits; // 메모리 캐시 적중 (원문 종류 기준)
+        private long persistentHits; // DB 적중
+        private long misses; // AI 번역 필요
+        private double hitRate;
+        private long stored; // 이 노드에서 기록한 번역 수
+        private long hotTierSize;
+        private long hotTierMaxSize;
+        private long hotTierEvictions;
+        private long persistentSize; // translation_memory 전체 행 수
+    }
+}
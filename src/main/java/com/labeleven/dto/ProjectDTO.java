@@ -37,6 +37,72 @@ public class ProjectDTO {
     @Builder
     public static class ListResponse {
         private List<Response> projects;
-        private int totalCount;
+        private String nextCursor;
+        private boolean hasNext;
+    }
+    
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class FileResponse {
+        private Long id;
+        private String kind;
+        private String originalFilename;
+        private String contentType;
+        private String sha256;
+        private Long size;
+        private boolean deduplicated; // 같은 내용이 이미 저장되어 있어 새로 쓰지 않음
+        private LocalDateTime createdAt;
+    }
+    
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ImageUploadResult {
+        private String filename;
+        private boolean success;
+        private String message;
+        private FileResponse file;
+    }
+    
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ImageUploadResponse {
+        private List<ImageUploadResult> results; // 요청한 파일 순서
+        private int successCount;
+        private int failureCount;
+    }
+    
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class UploadInitRequest {
+        private String filename;
+        private String contentType;
+        private Long totalSize;
+    }
+    
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class UploadSessionResponse {
+        private String uploadId;
+        private String status;
+        private Long offset; // 다음 청크를 보낼 위치 (여기까지는 서버에 저장됨)
+        private Long totalSize;
+        private Long maxChunkSize;
+        private LocalDateTime expiresAt;
+        private FileResponse file; // 완료 후 등록된 파일
     }
 }
@@ -64,6 +64,7 @@ public class ReportDTO {
     @AllArgsConstructor
     public static class ListResponse {
         private List<Response> reports;
-        private Integer total;
+        private String nextCursor;
+        private boolean hasNext;
     }
 }
\ No newline at end of file
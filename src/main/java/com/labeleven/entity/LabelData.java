@@ -2,17 +2,23 @@ package com.labeleven.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "label_data")
+@Table(name = "label_data",
+        indexes = @Index(name = "idx_label_data_project_updated", columnList = "project_id, updated_at"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class LabelData {
+    public static final int ID_ALLOCATION_SIZE = 50;
+    
+    // IDENTITY는 JDBC 배치 insert가 불가능하므로 시퀀스에서 50개씩 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "label_data_seq")
+    @SequenceGenerator(name = "label_data_seq", sequenceName = "label_data_seq", allocationSize = LabelData.ID_ALLOCATION_SIZE)
     private Long id;
     
     @Column(name = "field_name", nullable = false, length = 255)
@@ -30,4 +36,14 @@ public class LabelData {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
+    
+    // 보고서 다운로드 캐시 키에 사용 (이 컬럼 추가 전 행은 NULL)
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
 }
@@ -30,23 +30,8 @@ public class Pipeline {
     @Column(nullable = false)
     private Integer progress = 0; // 0-100
     
-    @Column(columnDefinition = "TEXT")
-    private String stepStatuses; // JSON으로 저장
-    
-    @Column(columnDefinition = "TEXT")
-    private String schemaResult; // JSON
-    
-    @Column(columnDefinition = "TEXT")
-    private String translationResult; // JSON
-    
-    @Column(columnDefinition = "TEXT")
-    private String diagnosisResult; // JSON
-    
-    @Column(columnDefinition = "TEXT")
-    private String checklistResult; // JSON
-    
-    @Column(columnDefinition = "TEXT")
-    private String finalReportResult; // JSON
+    @Column
+    private Integer attempt; // 실행 회차 (재개/복구할 때마다 증가, 이전 회차의 워커는 다음 단계에서 중단)
     
     @Column(name = "started_at")
     private LocalDateTime startedAt;
@@ -0,0 +1,60 @@
+package com.labeleven.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import java.time.LocalDateTime;
+
+// 파이프라인 실행 작업. 워커가 임대(lease_owner, lease_expires_at)를 잡고 실행하며 heartbeat로 연장
+// 임대가 만료된 RUNNING 작업은 다른 워커가 이어받음
+@Entity
+@Table(name = "pipeline_jobs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_pipeline_jobs_attempt", columnNames = {"pipeline_id", "attempt"}),
+        indexes = @Index(name = "idx_pipeline_jobs_claim", columnList = "status, lease_expires_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PipelineJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "pipeline_id", nullable = false, insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Pipeline pipeline;
+    
+    @Column(name = "pipeline_id", nullable = false)
+    private Long pipelineId;
+    
+    @Column(nullable = false)
+    private Integer attempt; // 이 작업이 실행할 파이프라인 회차
+    
+    // QUEUED, RUNNING, DONE
+    @Column(nullable = false, length = 20)
+    private String status;
+    
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+    
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt; // DB 시각 기준
+    
+    @Column(name = "claim_count", nullable = false)
+    private Integer claimCount;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+}
@@ -0,0 +1,39 @@
+package com.labeleven.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 단계별 결과 JSON (상태 조회 시 함께 로딩되지 않도록 pipelines와 분리)
+@Entity
+@Table(name = "pipeline_results")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PipelineResult {
+    @Id
+    @Column(name = "pipeline_id")
+    private Long pipelineId;
+    
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "pipeline_id")
+    private Pipeline pipeline;
+    
+    // 진단 결과는 수백 KB까지 커지므로 TEXT(64KB) 대신 LONGTEXT
+    @Column(columnDefinition = "LONGTEXT")
+    private String schemaResult; // JSON
+    
+    @Column(columnDefinition = "LONGTEXT")
+    private String translationResult; // JSON
+    
+    @Column(columnDefinition = "LONGTEXT")
+    private String diagnosisResult; // JSON
+    
+    @Column(columnDefinition = "LONGTEXT")
+    private String checklistResult; // JSON
+    
+    @Column(columnDefinition = "LONGTEXT")
+    private String finalReportResult; // JSON
+}
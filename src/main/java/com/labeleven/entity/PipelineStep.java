@@ -0,0 +1,45 @@
+package com.labeleven.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "pipeline_steps",
+        uniqueConstraints = @UniqueConstraint(name = "uk_pipeline_steps_order", columnNames = {"pipeline_id", "step_order"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PipelineStep {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "pipeline_id", nullable = false)
+    private Pipeline pipeline;
+    
+    @Column(name = "step_order", nullable = false)
+    private Integer stepOrder; // PipelineStage 선언 순서
+    
+    @Column(name = "step_name", nullable = false, length = 50)
+    private String stepName;
+    
+    @Column(nullable = false, length = 20)
+    private String status; // PENDING, RUNNING, COMPLETED, FAILED
+    
+    @Column(nullable = false)
+    private Integer progress; // 0-100
+    
+    @Column(columnDefinition = "TEXT")
+    private String message;
+    
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+    
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,45 @@
+package com.labeleven.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 노드 간 SSE 진행 이벤트 전달용 기록. 각 노드가 id 순으로 읽어 자기 구독자에게 전송하며,
+// id는 모든 노드에서 같은 SSE 이벤트 ID로 쓰임 (다른 노드로 재연결해도 Last-Event-ID가 이어짐)
+@Entity
+@Table(name = "progress_events",
+        indexes = @Index(name = "idx_progress_events_created", columnList = "created_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProgressEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "channel_key", nullable = false, length = 100)
+    private String channelKey; // pipeline:<id>, report:<id>
+    
+    @Column(nullable = false, length = 50)
+    private String name;
+    
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String payload; // JSON
+    
+    @Column(name = "last_event", nullable = false)
+    private Boolean lastEvent; // 전송 후 연결 종료
+    
+    @Column(nullable = false, length = 36)
+    private String origin; // 기록한 노드 (자기 이벤트는 다시 전송하지 않음)
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
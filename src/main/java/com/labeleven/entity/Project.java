@@ -5,7 +5,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects",
+        indexes = @Index(name = "idx_projects_user_created", columnList = "user_id, created_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,6 +29,10 @@ public class Project {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
+    // 보고서 다운로드 캐시 키에 사용 (이 컬럼 추가 전 행은 NULL)
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -35,5 +40,11 @@ public class Project {
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
     }
 }
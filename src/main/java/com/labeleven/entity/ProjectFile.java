@@ -0,0 +1,54 @@
+package com.labeleven.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import java.time.LocalDateTime;
+
+// 프로젝트에 업로드된 파일. 실제 내용은 SHA-256 기준 blob으로 한 번만 저장되고 여러 행이 공유
+@Entity
+@Table(name = "project_files",
+        indexes = {
+                @Index(name = "idx_project_files_project", columnList = "project_id, kind"),
+                @Index(name = "idx_project_files_sha256", columnList = "sha256")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectFile {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Project project;
+    
+    // SPEC(라벨 명세), IMAGE(라벨 이미지), ARTWORK(인쇄용 원본: PDF/TIFF 등, 청크 업로드)
+    @Column(nullable = false, length = 20)
+    private String kind;
+    
+    @Column(name = "original_filename", nullable = false, length = 255)
+    private String originalFilename;
+    
+    @Column(name = "content_type", length = 255)
+    private String contentType;
+    
+    @Column(nullable = false, length = 64)
+    private String sha256;
+    
+    @Column(nullable = false)
+    private Long size;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -9,7 +9,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reports")
+@Table(name = "reports",
+        indexes = {
+            @Index(name = "idx_reports_user_created", columnList = "user_id, created_at, id"),
+            @Index(name = "idx_reports_user_type_created", columnList = "user_id, report_type, created_at, id")
+        })
 @Data
 @Builder
 @NoArgsConstructor
@@ -24,6 +28,10 @@ public class Report {
     @JoinColumn(name = "project_id")
     private Project project;
     
+    // 프로젝트 소유자 id (목록을 조인 없이 (user_id, created_at, id) 인덱스 구간 하나로 조회)
+    @Column(name = "user_id")
+    private Long userId;
+    
     @Column(nullable = false)
     private String reportType; // "VALIDATION", "MERGE", "FINAL"
     
@@ -0,0 +1,44 @@
+package com.labeleven.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// AI 단계 결과 메모: 단계 입력(라벨 항목, 이미지, 국가, 선행 결과, 단계 버전)의 해시별 결과
+// 같은 입력이면 재실행이든 다른 프로젝트든 AI 호출 없이 재사용
+@Entity
+@Table(name = "stage_outputs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stage_outputs_input", columnNames = {"stage", "input_hash"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StageOutput {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false, length = 20)
+    private String stage; // PipelineStage 경로 (schema, translation, ...)
+    
+    @Column(name = "input_hash", nullable = false, length = 64)
+    private String inputHash;
+    
+    // 결과를 만든 요청의 라벨/이미지 id 목록 (JSON). 다른 프로젝트에서 재사용할 때 결과 안의 id를 바꾸는 데 사용
+    @Column(name = "reference_ids", columnDefinition = "TEXT")
+    private String referenceIds;
+    
+    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    private String result;
+    
+    @Column(name = "hit_count", nullable = false)
+    private Long hitCount;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "last_used_at")
+    private LocalDateTime lastUsedAt;
+}
@@ -0,0 +1,40 @@
+package com.labeleven.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+// 번역 메모리: (정규화한 원문, 대상 언어)별 번역. 프로젝트와 무관하게 공유
+// 원문은 TEXT라 유니크 인덱스를 걸 수 없으므로 정규화한 원문의 SHA-256으로 식별
+@Entity
+@Table(name = "translation_memory",
+        uniqueConstraints = @UniqueConstraint(name = "uk_translation_memory_source",
+                columnNames = {"language", "source_hash"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationMemory {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false, length = 16)
+    private String language;
+    
+    @Column(name = "source_hash", nullable = false, length = 64)
+    private String sourceHash;
+    
+    @Column(name = "source_text", nullable = false, columnDefinition = "TEXT")
+    private String sourceText;
+    
+    @Column(name = "translated_text", nullable = false, columnDefinition = "TEXT")
+    private String translatedText;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,65 @@
+package com.labeleven.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import java.time.LocalDateTime;
+
+// 이어받기 가능한 청크 업로드 세션. receivedBytes까지는 임시 파일에 빈틈없이 기록되어 있음
+@Entity
+@Table(name = "upload_sessions",
+        indexes = @Index(name = "idx_upload_sessions_updated", columnList = "updated_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSession {
+    @Id
+    @Column(length = 36)
+    private String id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Project project;
+    
+    @Column(nullable = false, length = 255)
+    private String filename;
+    
+    @Column(name = "content_type", length = 255)
+    private String contentType;
+    
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+    
+    @Column(name = "received_bytes", nullable = false)
+    private Long receivedBytes;
+    
+    // UPLOADING, COMPLETING, COMPLETED
+    @Column(nullable = false, length = 20)
+    private String status;
+    
+    // complete 중 blob으로 옮긴 결과. 파일 등록이 실패해도 이 값으로 다시 등록
+    @Column(name = "blob_sha256", length = 64)
+    private String blobSha256;
+    
+    @Column(name = "blob_size")
+    private Long blobSize;
+    
+    @Column(name = "project_file_id")
+    private Long projectFileId;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+}
@@ -1,12 +1,40 @@
 package com.labeleven.repository;
 
 import com.labeleven.entity.LabelData;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface LabelDataRepository extends JpaRepository<LabelData, Long> {
     List<LabelData> findByProjectId(Long projectId);
     List<LabelData> findByProjectIdAndCategory(Long projectId, String category);
+    
+    // 키셋 페이지네이션 (id 오름차순, project_id 인덱스 범위로 조회)
+    List<LabelData> findByProjectIdOrderByIdAsc(Long projectId, Pageable pageable);
+    
+    List<LabelData> findByProjectIdAndIdGreaterThanOrderByIdAsc(Long projectId, Long id, Pageable pageable);
+    
+    long countByProjectId(Long projectId);
+    
+    // (project_id, updated_at) 인덱스만 읽음
+    @Query("SELECT MAX(l.updatedAt) FROM LabelData l WHERE l.project.id = :projectId")
+    LocalDateTime findLastUpdatedAt(@Param("projectId") Long projectId);
+    
+    // 내보내기용 키셋 청크 조회 (afterId가 null이면 처음부터). 호출마다 짧은 읽기 트랜잭션으로 끝나므로
+    // 응답을 천천히 받는 클라이언트가 있어도 커넥션/트랜잭션을 붙잡지 않음
+    default List<LabelData> findChunk(Long projectId, Long afterId, Pageable pageable) {
+        return afterId == null
+                ? findByProjectIdOrderByIdAsc(projectId, pageable)
+                : findByProjectIdAndIdGreaterThanOrderByIdAsc(projectId, afterId, pageable);
+    }
+    
+    // 소유권 확인과 조회를 한 번의 쿼리로 처리
+    @Query("SELECT l FROM LabelData l WHERE l.id = :id AND l.project.user.id = :userId")
+    Optional<LabelData> findOwnedById(@Param("id") Long id, @Param("userId") Long userId);
 }
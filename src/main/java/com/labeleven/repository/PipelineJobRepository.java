@@ -0,0 +1,42 @@
+package com.labeleven.repository;
+
+import com.labeleven.entity.PipelineJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface PipelineJobRepository extends JpaRepository<PipelineJob, Long>, PipelineJobRepositoryCustom {
+    
+    // 임대를 잃은 뒤(다른 워커가 이어받음)에는 상태를 바꾸지 않음
+    @Transactional
+    @Modifying
+    @Query("UPDATE PipelineJob j SET j.status = 'DONE', j.leaseExpiresAt = NULL, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.leaseOwner = :owner AND j.status = 'RUNNING'")
+    int finish(@Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now);
+    
+    // 가져왔지만 실행하지 못한 작업을 대기 상태로 되돌림
+    @Transactional
+    @Modifying
+    @Query("UPDATE PipelineJob j SET j.status = 'QUEUED', j.leaseOwner = NULL, j.leaseExpiresAt = NULL, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.leaseOwner = :owner AND j.status = 'RUNNING'")
+    int release(@Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE PipelineJob j SET j.attempt = :attempt WHERE j.id = :id")
+    int updateAttempt(@Param("id") Long id, @Param("attempt") Integer attempt);
+    
+    @Modifying
+    @Query("UPDATE PipelineJob j SET j.status = 'DONE', j.leaseExpiresAt = NULL, j.updatedAt = :now WHERE j.id = :id")
+    int markDone(@Param("id") Long id, @Param("now") LocalDateTime now);
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PipelineJob j WHERE j.status = 'DONE' AND j.updatedAt < :before")
+    int deleteDoneBefore(@Param("before") LocalDateTime before);
+}
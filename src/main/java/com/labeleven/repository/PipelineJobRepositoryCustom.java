@@ -0,0 +1,18 @@
+package com.labeleven.repository;
+
+import com.labeleven.entity.PipelineJob;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+// 임대 시각은 노드 간 시계 차이를 피하려고 모두 DB 시각(NOW())으로 계산
+public interface PipelineJobRepositoryCustom {
+    
+    // 대기 중이거나 임대가 만료된 작업을 잠금 (다른 노드가 잠근 행은 건너뜀). 트랜잭션 안에서 호출
+    List<PipelineJob> lockClaimable(int limit);
+    
+    void markClaimed(Collection<Long> ids, String owner, Duration lease);
+    
+    // 아직 owner가 임대 중인 작업만 연장하고 연장한 수를 반환
+    int extendLeases(Collection<Long> ids, String owner, Duration lease);
+}
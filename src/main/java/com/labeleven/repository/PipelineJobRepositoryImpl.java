@@ -0,0 +1,69 @@
+package com.labeleven.repository;
+
+import com.labeleven.entity.PipelineJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PipelineJobRepositoryImpl implements PipelineJobRepositoryCustom {
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    // MariaDB 10.6 이상 (SKIP LOCKED)
+    @Override
+    public List<PipelineJob> lockClaimable(int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, pipeline_id, attempt, status, claim_count FROM pipeline_jobs " +
+                "WHERE status = 'QUEUED' OR (status = 'RUNNING' AND lease_expires_at < NOW()) " +
+                "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED",
+                (rs, rowNum) -> PipelineJob.builder()
+                        .id(rs.getLong("id"))
+                        .pipelineId(rs.getLong("pipeline_id"))
+                        .attempt(rs.getInt("attempt"))
+                        .status(rs.getString("status"))
+                        .claimCount(rs.getInt("claim_count"))
+                        .build(),
+                limit);
+    }
+    
+    @Override
+    public void markClaimed(Collection<Long> ids, String owner, Duration lease) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>();
+        args.add(owner);
+        args.add(lease.toMillis() * 1000);
+        args.addAll(ids);
+        jdbcTemplate.update(
+                "UPDATE pipeline_jobs SET status = 'RUNNING', lease_owner = ?, " +
+                "lease_expires_at = NOW() + INTERVAL ? MICROSECOND, claim_count = claim_count + 1, updated_at = NOW() " +
+                "WHERE id IN (" + placeholders(ids.size()) + ")",
+                args.toArray());
+    }
+    
+    @Override
+    public int extendLeases(Collection<Long> ids, String owner, Duration lease) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Object> args = new ArrayList<>();
+        args.add(lease.toMillis() * 1000);
+        args.add(owner);
+        args.addAll(ids);
+        return jdbcTemplate.update(
+                "UPDATE pipeline_jobs SET lease_expires_at = NOW() + INTERVAL ? MICROSECOND " +
+                "WHERE lease_owner = ? AND status = 'RUNNING' AND id IN (" + placeholders(ids.size()) + ")",
+                args.toArray());
+    }
+    
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -1,7 +1,11 @@
 package com.labeleven.repository;
 
 import com.labeleven.entity.Pipeline;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +21,18 @@ public interface PipelineRepository extends JpaRepository<Pipeline, Long> {
     List<Pipeline> findByStatus(String status);
     
     Optional<Pipeline> findFirstByReportIdOrderByCreatedAtDesc(Long reportId);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Pipeline p WHERE p.id = :id")
+    Optional<Pipeline> findByIdForUpdate(@Param("id") Long id);
+    
+    // 소유권 확인과 조회를 한 번의 쿼리로 처리
+    @Query("SELECT p FROM Pipeline p WHERE p.id = :id AND p.report.project.user.id = :userId")
+    Optional<Pipeline> findOwnedById(@Param("id") Long id, @Param("userId") Long userId);
+    
+    @Query("SELECT COUNT(p) > 0 FROM Pipeline p WHERE p.id = :id AND p.report.project.user.id = :userId")
+    boolean existsOwnedById(@Param("id") Long id, @Param("userId") Long userId);
+    
+    @Query("SELECT p.status FROM Pipeline p WHERE p.id = :id AND p.report.project.user.id = :userId")
+    Optional<String> findOwnedStatusById(@Param("id") Long id, @Param("userId") Long userId);
 }
\ No newline at end of file
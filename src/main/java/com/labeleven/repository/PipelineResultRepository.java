@@ -0,0 +1,9 @@
+package com.labeleven.repository;
+
+import com.labeleven.entity.PipelineResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PipelineResultRepository extends JpaRepository<PipelineResult, Long>, PipelineResultRepositoryCustom {
+}
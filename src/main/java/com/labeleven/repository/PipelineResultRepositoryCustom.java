@@ -0,0 +1,15 @@
+package com.labeleven.repository;
+
+import com.labeleven.service.PipelineStage;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface PipelineResultRepositoryCustom {
+    
+    // 단계 결과 컬럼 하나만 기록 (행이 없으면 생성)
+    void upsertResult(Long pipelineId, PipelineStage stage, String result);
+    
+    // 요청한 단계의 결과 컬럼만 조회 (값이 없는 단계는 제외)
+    Map<PipelineStage, String> findResults(Long pipelineId, Collection<PipelineStage> stages);
+}
@@ -0,0 +1,78 @@
+package com.labeleven.repository;
+
+import com.labeleven.service.PipelineStage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class PipelineResultRepositoryImpl implements PipelineResultRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public void upsertResult(Long pipelineId, PipelineStage stage, String result) {
+        String column = columnOf(stage);
+        entityManager.createNativeQuery(
+                        "INSERT INTO pipeline_results (pipeline_id, " + column + ") VALUES (:pipelineId, :result) " +
+                        "ON DUPLICATE KEY UPDATE " + column + " = VALUES(" + column + ")")
+                .setParameter("pipelineId", pipelineId)
+                .setParameter("result", result)
+                .executeUpdate();
+    }
+    
+    @Override
+    public Map<PipelineStage, String> findResults(Long pipelineId, Collection<PipelineStage> stages) {
+        Map<PipelineStage, String> results = new EnumMap<>(PipelineStage.class);
+        if (stages.isEmpty()) {
+            return results;
+        }
+        
+        List<PipelineStage> selected = new ArrayList<>(stages);
+        String fields = selected.stream()
+                .map(stage -> "r." + fieldOf(stage))
+                .collect(Collectors.joining(", "));
+        List<?> rows = entityManager.createQuery(
+                        "SELECT " + fields + " FROM PipelineResult r WHERE r.pipelineId = :pipelineId")
+                .setParameter("pipelineId", pipelineId)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return results;
+        }
+        
+        Object row = rows.get(0);
+        Object[] values = row instanceof Object[] array ? array : new Object[]{row};
+        for (int i = 0; i < selected.size(); i++) {
+            if (values[i] != null) {
+                results.put(selected.get(i), (String) values[i]);
+            }
+        }
+        return results;
+    }
+    
+    private String fieldOf(PipelineStage stage) {
+        return switch (stage) {
+            case SCHEMA -> "schemaResult";
+            case TRANSLATION -> "translationResult";
+            case DIAGNOSIS -> "diagnosisResult";
+            case CHECKLIST -> "checklistResult";
+            case FINAL_REPORT -> "finalReportResult";
+        };
+    }
+    
+    private String columnOf(PipelineStage stage) {
+        return switch (stage) {
+            case SCHEMA -> "schema_result";
+            case TRANSLATION -> "translation_result";
+            case DIAGNOSIS -> "diagnosis_result";
+            case CHECKLIST -> "checklist_result";
+            case FINAL_REPORT -> "final_report_result";
+        };
+    }
+}
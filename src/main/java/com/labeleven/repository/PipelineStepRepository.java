@@ -0,0 +1,56 @@
+package com.labeleven.repository;
+
+import com.labeleven.entity.PipelineStep;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PipelineStepRepository extends JpaRepository<PipelineStep, Long> {
+    
+    List<PipelineStep> findByPipelineIdOrderByStepOrder(Long pipelineId);
+    
+    long countByPipelineIdAndStatus(Long pipelineId, String status);
+    
+    @Modifying
+    @Query("UPDATE PipelineStep s SET s.status = 'RUNNING', s.progress = 0, s.startedAt = :startedAt " +
+           "WHERE s.pipeline.id = :pipelineId AND s.stepOrder = :stepOrder")
+    int markStarted(@Param("pipelineId") Long pipelineId,
+                    @Param("stepOrder") Integer stepOrder,
+                    @Param("startedAt") LocalDateTime startedAt);
+    
+    @Modifying
+    @Query("UPDATE PipelineStep s SET s.status = 'COMPLETED', s.progress = 100, s.completedAt = :completedAt " +
+           "WHERE s.pipeline.id = :pipelineId AND s.stepOrder = :stepOrder")
+    int markCompleted(@Param("pipelineId") Long pipelineId,
+                      @Param("stepOrder") Integer stepOrder,
+                      @Param("completedAt") LocalDateTime completedAt);
+    
+    @Modifying
+    @Query("UPDATE PipelineStep s SET s.status = 'FAILED', s.message = :message, s.completedAt = :completedAt " +
+           "WHERE s.pipeline.id = :pipelineId AND s.stepOrder = :stepOrder")
+    int markFailed(@Param("pipelineId") Long pipelineId,
+                   @Param("stepOrder") Integer stepOrder,
+                   @Param("message") String message,
+                   @Param("completedAt") LocalDateTime completedAt);
+    
+    @Query("SELECT s.stepOrder FROM PipelineStep s WHERE s.pipeline.id = :pipelineId AND s.status = 'COMPLETED'")
+    List<Integer> findCompletedStepOrders(@Param("pipelineId") Long pipelineId);
+    
+    // 완료된 단계(결과 저장됨)는 그대로 두고 나머지만 대기 상태로
+    @Modifying
+    @Query("UPDATE PipelineStep s SET s.status = 'PENDING', s.progress = 0, s.message = NULL, " +
+           "s.startedAt = NULL, s.completedAt = NULL " +
+           "WHERE s.pipeline.id = :pipelineId AND s.status <> 'COMPLETED'")
+    int resetIncomplete(@Param("pipelineId") Long pipelineId);
+    
+    @Modifying
+    @Query("UPDATE PipelineStep s SET s.message = :message " +
+           "WHERE s.pipeline.id = :pipelineId AND s.status <> 'COMPLETED'")
+    int updateIncompleteMessages(@Param("pipelineId") Long pipelineId, @Param("message") String message);
+}
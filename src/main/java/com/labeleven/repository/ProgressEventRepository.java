@@ -0,0 +1,27 @@
+package com.labeleven.repository;
+
+import com.labeleven.entity.ProgressEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ProgressEventRepository extends JpaRepository<ProgressEvent, Long> {
+    
+    List<ProgressEvent> findByIdGreaterThanOrderById(Long id, Pageable pageable);
+    
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM ProgressEvent e")
+    long findMaxId();
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ProgressEvent e WHERE e.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,18 @@
+package com.labeleven.repository;
+
+import com.labeleven.entity.ProjectFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectFileRepository extends JpaRepository<ProjectFile, Long> {
+    List<ProjectFile> findByProjectIdAndKindOrderByIdAsc(Long projectId, String kind);
+    
+    List<ProjectFile> findByProjectIdOrderByIdAsc(Long projectId);
+    
+    Optional<ProjectFile> findByIdAndProjectId(Long id, Long projectId);
+    
+    boolean existsBySha256(String sha256);
+}
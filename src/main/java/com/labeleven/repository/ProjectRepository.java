@@ -1,12 +1,47 @@
 package com.labeleven.repository;
 
 import com.labeleven.entity.Project;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByUserId(Long userId);
     List<Project> findByUserIdOrderByCreatedAtDesc(Long userId);
+    
+    // 키셋 페이지네이션 ((createdAt, id) 내림차순, 커서 이후 행만 인덱스 범위로 조회)
+    @Query("SELECT p FROM Project p WHERE p.user.id = :userId ORDER BY p.createdAt DESC, p.id DESC")
+    List<Project> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query("SELECT p FROM Project p WHERE p.user.id = :userId " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Project> findPageByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+    
+    long countByUserId(Long userId);
+    
+    // 가져오기 워커 등 트랜잭션 밖에서 호출되므로 자체 트랜잭션으로 실행
+    @Transactional
+    @Modifying
+    @Query("UPDATE Project p SET p.status = :status WHERE p.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") String status);
+    
+    // 소유권 확인과 조회를 한 번의 쿼리로 처리
+    @Query("SELECT p FROM Project p WHERE p.id = :id AND p.user.id = :userId")
+    Optional<Project> findOwnedById(@Param("id") Long id, @Param("userId") Long userId);
+    
+    @Query("SELECT COUNT(p) > 0 FROM Project p WHERE p.id = :id AND p.user.id = :userId")
+    boolean existsOwnedById(@Param("id") Long id, @Param("userId") Long userId);
 }
@@ -1,23 +1,61 @@
 package com.labeleven.repository;
 
 import com.labeleven.entity.Report;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
     
     List<Report> findByProjectId(Long projectId);
     
-    @Query("SELECT r FROM Report r WHERE r.project.user.email = :email AND r.reportType = :reportType ORDER BY r.createdAt DESC")
-    List<Report> findByProjectUserEmailAndReportTypeOrderByCreatedAtDesc(
-            @Param("email") String email, 
-            @Param("reportType") String reportType);
+    // 키셋 페이지네이션 ((createdAt, id) 내림차순). (user_id[, report_type], created_at, id) 인덱스 구간 하나만 읽음
+    @Query("SELECT r FROM Report r WHERE r.userId = :userId ORDER BY r.createdAt DESC, r.id DESC")
+    List<Report> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
     
-    @Query("SELECT r FROM Report r WHERE r.project.user.email = :email ORDER BY r.createdAt DESC")
-    List<Report> findByProjectUserEmailOrderByCreatedAtDesc(@Param("email") String email);
+    @Query("SELECT r FROM Report r WHERE r.userId = :userId " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Report> findPageByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+    
+    @Query("SELECT r FROM Report r WHERE r.userId = :userId AND r.reportType = :reportType " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Report> findPageByUserIdAndType(
+            @Param("userId") Long userId,
+            @Param("reportType") String reportType,
+            Pageable pageable);
+    
+    @Query("SELECT r FROM Report r WHERE r.userId = :userId AND r.reportType = :reportType " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Report> findPageByUserIdAndTypeAfter(
+            @Param("userId") Long userId,
+            @Param("reportType") String reportType,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+    
+    @Query("SELECT COUNT(r) FROM Report r WHERE r.userId = :userId")
+    long countByUserId(@Param("userId") Long userId);
+    
+    @Query("SELECT COUNT(r) FROM Report r WHERE r.userId = :userId AND r.reportType = :reportType")
+    long countByUserIdAndType(@Param("userId") Long userId, @Param("reportType") String reportType);
+    
+    // 소유권 확인과 조회를 한 번의 쿼리로 처리
+    @Query("SELECT r FROM Report r WHERE r.id = :id AND r.project.user.id = :userId")
+    Optional<Report> findOwnedById(@Param("id") Long id, @Param("userId") Long userId);
+    
+    @Query("SELECT COUNT(r) > 0 FROM Report r WHERE r.id = :id AND r.project.user.id = :userId")
+    boolean existsOwnedById(@Param("id") Long id, @Param("userId") Long userId);
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.labeleven.repository;
+
+import com.labeleven.entity.StageOutput;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface StageOutputRepository extends JpaRepository<StageOutput, Long> {
+    
+    Optional<StageOutput> findByStageAndInputHash(String stage, String inputHash);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE StageOutput s SET s.hitCount = s.hitCount + 1, s.lastUsedAt = :usedAt WHERE s.id = :id")
+    int markUsed(@Param("id") Long id, @Param("usedAt") LocalDateTime usedAt);
+    
+    // 같은 입력을 다른 노드가 먼저 기록했으면 그대로 둠
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO stage_outputs (stage, input_hash, reference_ids, result, hit_count, created_at) " +
+                   "VALUES (:stage, :inputHash, :referenceIds, :result, 0, :createdAt)", nativeQuery = true)
+    int insertIfAbsent(@Param("stage") String stage,
+                       @Param("inputHash") String inputHash,
+                       @Param("referenceIds") String referenceIds,
+                       @Param("result") String result,
+                       @Param("createdAt") LocalDateTime createdAt);
+}
@@ -0,0 +1,12 @@
+package com.labeleven.repository;
+
+import com.labeleven.entity.TranslationMemory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TranslationMemoryRepository extends JpaRepository<TranslationMemory, Long>, TranslationMemoryRepositoryCustom {
+    List<TranslationMemory> findByLanguageAndSourceHashIn(String language, Collection<String> sourceHashes);
+}
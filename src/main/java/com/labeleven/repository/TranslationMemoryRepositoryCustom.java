@@ -0,0 +1,10 @@
+package com.labeleven.repository;
+
+import com.labeleven.entity.TranslationMemory;
+import java.util.Collection;
+
+public interface TranslationMemoryRepositoryCustom {
+    
+    // (language, source_hash)가 이미 있으면 번역만 갱신 (여러 노드가 같은 원문을 동시에 기록해도 안전)
+    void upsertAll(Collection<TranslationMemory> entries);
+}
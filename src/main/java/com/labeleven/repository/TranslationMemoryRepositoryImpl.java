@@ -0,0 +1,38 @@
+package com.labeleven.repository;
+
+import com.labeleven.entity.TranslationMemory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+
+@RequiredArgsConstructor
+public class TranslationMemoryRepositoryImpl implements TranslationMemoryRepositoryCustom {
+    
+    private static final int BATCH_SIZE = 500;
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void upsertAll(Collection<TranslationMemory> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO translation_memory (language, source_hash, source_text, translated_text, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE translated_text = VALUES(translated_text), updated_at = VALUES(updated_at)",
+                new ArrayList<>(entries), BATCH_SIZE, (statement, entry) -> {
+                    statement.setString(1, entry.getLanguage());
+                    statement.setString(2, entry.getSourceHash());
+                    statement.setString(3, entry.getSourceText());
+                    statement.setString(4, entry.getTranslatedText());
+                    statement.setTimestamp(5, now);
+                    statement.setTimestamp(6, now);
+                });
+    }
+}
@@ -0,0 +1,72 @@
+package com.labeleven.repository;
+
+import com.labeleven.entity.UploadSession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, String> {
+    
+    Optional<UploadSession> findByIdAndProjectId(String id, Long projectId);
+    
+    // [offset, end) 구간이 기록된 뒤에만 호출. 현재 위치가 구간 안에 있을 때만 앞으로 이동 (동시 재시도에도 뒤로 가지 않음)
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.receivedBytes = :end, s.updatedAt = :now " +
+           "WHERE s.id = :id AND s.status = 'UPLOADING' AND s.receivedBytes >= :offset AND s.receivedBytes < :end")
+    int advance(@Param("id") String id,
+                @Param("offset") long offset,
+                @Param("end") long end,
+                @Param("now") LocalDateTime now);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.status = :to, s.updatedAt = :now WHERE s.id = :id AND s.status = :from")
+    int transition(@Param("id") String id,
+                   @Param("from") String from,
+                   @Param("to") String to,
+                   @Param("now") LocalDateTime now);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.blobSha256 = :sha256, s.blobSize = :size, s.updatedAt = :now " +
+           "WHERE s.id = :id AND s.status = 'COMPLETING'")
+    int recordBlob(@Param("id") String id,
+                   @Param("sha256") String sha256,
+                   @Param("size") long size,
+                   @Param("now") LocalDateTime now);
+    
+    // 해시를 기록하기 전에 멈춘 완료 처리(노드 종료 등)를 다시 시도할 수 있게 되돌림
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadSession s SET s.status = 'UPLOADING', s.updatedAt = :now " +
+           "WHERE s.id = :id AND s.status = 'COMPLETING' AND s.blobSha256 IS NULL AND s.updatedAt < :before")
+    int resetStaleCompleting(@Param("id") String id,
+                             @Param("before") LocalDateTime before,
+                             @Param("now") LocalDateTime now);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UploadSession s WHERE s.id = :id")
+    Optional<UploadSession> findByIdForUpdate(@Param("id") String id);
+    
+    // 해시를 기록한 완료 처리 중 세션은 blob이 이미 옮겨졌을 수 있으므로 정리하지 않음 (complete 재호출로 등록)
+    @Query("SELECT s.id FROM UploadSession s WHERE s.updatedAt < :before " +
+           "AND (s.status <> 'COMPLETING' OR s.blobSha256 IS NULL)")
+    List<String> findIdsUpdatedBefore(@Param("before") LocalDateTime before);
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UploadSession s WHERE s.id = :id AND s.updatedAt < :before " +
+           "AND (s.status <> 'COMPLETING' OR s.blobSha256 IS NULL)")
+    int deleteIfUpdatedBefore(@Param("id") String id, @Param("before") LocalDateTime before);
+}
@@ -1,37 +1,72 @@
 package com.labeleven.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.labeleven.entity.User;
+import com.labeleven.repository.UserRepository;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HexFormat;
 
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
     
+    private final UserRepository userRepository;
+    
     @Value("${jwt.secret}")
     private String secretKey;
     
     @Value("${jwt.expiration}")
     private long validityInMilliseconds;
     
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+    
+    @Value("${jwt.cache.ttl:10m}")
+    private Duration cacheTtl;
+    
     private Key key;
     
+    // 파서는 스레드 안전하므로 하나만 만들어 재사용
+    private JwtParser jwtParser;
+    
+    // 검증이 끝난 토큰 (키: 토큰 SHA-256). 토큰 만료 시각이 지나면 함께 제거
+    private Cache<String, VerifiedToken> verifiedTokens;
+    
     @PostConstruct
     protected void init() {
         key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry(cacheTtl))
+                .build();
     }
     
-    public String createToken(String email, String role) {
-        Claims claims = Jwts.claims().setSubject(email);
-        claims.put("role", role);
+    public String createToken(User user) {
+        Claims claims = Jwts.claims().setSubject(user.getEmail());
+        claims.put("uid", user.getId());
+        claims.put("username", user.getUsername());
+        claims.put("role", user.getRole());
         
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
@@ -44,41 +79,92 @@ public class JwtTokenProvider {
                 .compact();
     }
     
-    public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // 검증과 인증 정보 추출을 한 번의 파싱으로 처리 (유효하지 않으면 null)
+    public Authentication resolveAuthentication(String token) {
+        String cacheKey = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.authentication();
+        }
         
-        String email = claims.getSubject();
-        String role = (String) claims.get("role");
+        Claims claims;
+        try {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
         
-        return new UsernamePasswordAuthenticationToken(
-                email,
-                "",
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
-        );
+        Authentication authentication = toAuthentication(claims);
+        if (authentication != null && claims.getExpiration() != null) {
+            verifiedTokens.put(cacheKey, new VerifiedToken(authentication, claims.getExpiration().getTime()));
+        }
+        return authentication;
     }
     
     public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
     
-    public boolean validateToken(String token) {
+    private Authentication toAuthentication(Claims claims) {
+        UserPrincipal principal = toPrincipal(claims);
+        if (principal == null) {
+            return null;
+        }
+        
+        return new UsernamePasswordAuthenticationToken(
+                principal,
+                "",
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + principal.getRole()))
+        );
+    }
+    
+    private UserPrincipal toPrincipal(Claims claims) {
+        Long userId = claims.get("uid", Long.class);
+        if (userId != null) {
+            return new UserPrincipal(
+                    userId,
+                    claims.get("username", String.class),
+                    claims.getSubject(),
+                    claims.get("role", String.class));
+        }
+        
+        // uid 클레임이 없는 이전 토큰: 한 번 조회 후 검증 캐시에 보관
+        return userRepository.findByEmail(claims.getSubject())
+                .map(user -> new UserPrincipal(user.getId(), user.getUsername(), user.getEmail(), user.getRole()))
+                .orElse(null);
+    }
+    
+    private String hash(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private record VerifiedToken(Authentication authentication, long expiresAt) {
+    }
+    
+    // 토큰 만료 시각과 ttl 중 빠른 시점에 캐시에서 제거
+    private record TokenExpiry(Duration ttl) implements Expiry<String, VerifiedToken> {
+        
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long untilExpiry = Duration.ofMillis(Math.max(0, value.expiresAt() - System.currentTimeMillis())).toNanos();
+            return Math.min(untilExpiry, ttl.toNanos());
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
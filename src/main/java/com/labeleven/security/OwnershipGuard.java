@@ -0,0 +1,75 @@
+package com.labeleven.security;
+
+import com.labeleven.entity.LabelData;
+import com.labeleven.entity.Pipeline;
+import com.labeleven.entity.Project;
+import com.labeleven.entity.Report;
+import com.labeleven.repository.LabelDataRepository;
+import com.labeleven.repository.PipelineRepository;
+import com.labeleven.repository.ProjectRepository;
+import com.labeleven.repository.ReportRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+
+// 리소스 소유권 확인 (소유자 id 조건을 포함한 단일 쿼리로 조회, 실패 시에만 존재 여부를 추가 확인)
+@Component
+@RequiredArgsConstructor
+public class OwnershipGuard {
+
+    private final ProjectRepository projectRepository;
+    private final ReportRepository reportRepository;
+    private final PipelineRepository pipelineRepository;
+    private final LabelDataRepository labelDataRepository;
+
+    public Project getProject(Long projectId, Long userId) {
+        return projectRepository.findOwnedById(projectId, userId)
+                .orElseThrow(() -> denied(projectRepository, projectId, "프로젝트를 찾을 수 없습니다."));
+    }
+
+    public void checkProject(Long projectId, Long userId) {
+        if (!projectRepository.existsOwnedById(projectId, userId)) {
+            throw denied(projectRepository, projectId, "프로젝트를 찾을 수 없습니다.");
+        }
+    }
+
+    public Report getReport(Long reportId, Long userId) {
+        return reportRepository.findOwnedById(reportId, userId)
+                .orElseThrow(() -> denied(reportRepository, reportId, "보고서를 찾을 수 없습니다."));
+    }
+
+    public void checkReport(Long reportId, Long userId) {
+        if (!reportRepository.existsOwnedById(reportId, userId)) {
+            throw denied(reportRepository, reportId, "보고서를 찾을 수 없습니다.");
+        }
+    }
+
+    public Pipeline getPipeline(Long pipelineId, Long userId) {
+        return pipelineRepository.findOwnedById(pipelineId, userId)
+                .orElseThrow(() -> denied(pipelineRepository, pipelineId, "파이프라인을 찾을 수 없습니다."));
+    }
+
+    public void checkPipeline(Long pipelineId, Long userId) {
+        if (!pipelineRepository.existsOwnedById(pipelineId, userId)) {
+            throw denied(pipelineRepository, pipelineId, "파이프라인을 찾을 수 없습니다.");
+        }
+    }
+
+    // 엔티티 없이 상태 컬럼만 조회
+    public String getPipelineStatus(Long pipelineId, Long userId) {
+        return pipelineRepository.findOwnedStatusById(pipelineId, userId)
+                .orElseThrow(() -> denied(pipelineRepository, pipelineId, "파이프라인을 찾을 수 없습니다."));
+    }
+
+    public LabelData getLabelData(Long labelDataId, Long userId) {
+        return labelDataRepository.findOwnedById(labelDataId, userId)
+                .orElseThrow(() -> denied(labelDataRepository, labelDataId, "라벨 데이터를 찾을 수 없습니다."));
+    }
+
+    private RuntimeException denied(JpaRepository<?, Long> repository, Long id, String notFoundMessage) {
+        if (!repository.existsById(id)) {
+            return new RuntimeException(notFoundMessage);
+        }
+        return new RuntimeException("권한이 없습니다.");
+    }
+}
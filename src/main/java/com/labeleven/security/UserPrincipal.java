@@ -0,0 +1,31 @@
+package com.labeleven.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+
+import java.security.Principal;
+
+// JWT에서 복원한 사용자 식별 정보 (요청마다 users 테이블을 조회하지 않도록 id를 함께 보관)
+@Getter
+@RequiredArgsConstructor
+public class UserPrincipal implements Principal {
+    
+    private final Long id;
+    private final String username;
+    private final String email;
+    private final String role;
+    
+    // Authentication.getName()은 기존과 같이 이메일을 반환
+    @Override
+    public String getName() {
+        return email;
+    }
+    
+    public static UserPrincipal from(Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            throw new RuntimeException("인증 정보가 없습니다.");
+        }
+        return principal;
+    }
+}
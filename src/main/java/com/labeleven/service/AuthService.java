@@ -26,7 +26,7 @@ public class AuthService {
             throw new RuntimeException("비밀번호가 일치하지 않습니다.");
         }
         
-        String token = jwtTokenProvider.createToken(user.getEmail(), user.getRole());
+        String token = jwtTokenProvider.createToken(user);
         
         return AuthDTO.LoginResponse.builder()
                 .accessToken(token)
@@ -0,0 +1,96 @@
+package com.labeleven.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+// 조각 단위로 받은 바이트를 임시 파일에 쓰면서 해시를 함께 계산 (commit 시 blob으로 원자적 이동)
+// 비동기 서블릿 콜백/타임아웃 스레드가 함께 접근할 수 있으므로 메서드를 동기화
+public class BlobSink implements Closeable {
+
+    private static final int HEAD_SIZE = 16;
+
+    private final FileStorageService storage;
+    private final Path temp;
+    private final FileChannel channel;
+    private final MessageDigest digest;
+    private final long maxSize;
+    private final byte[] head = new byte[HEAD_SIZE];
+    private long size;
+    private boolean closed;
+
+    BlobSink(FileStorageService storage, Path temp, FileChannel channel, MessageDigest digest, long maxSize) {
+        this.storage = storage;
+        this.temp = temp;
+        this.channel = channel;
+        this.digest = digest;
+        this.maxSize = maxSize;
+    }
+
+    public synchronized void write(byte[] buffer, int offset, int length) {
+        if (closed) {
+            throw new RuntimeException("이미 종료된 업로드입니다.");
+        }
+        if (size + length > maxSize) {
+            throw new RuntimeException("파일 크기 제한을 초과했습니다.");
+        }
+        if (size < HEAD_SIZE) {
+            System.arraycopy(buffer, offset, head, (int) size, Math.min(length, HEAD_SIZE - (int) size));
+        }
+
+        digest.update(buffer, offset, length);
+        ByteBuffer source = ByteBuffer.wrap(buffer, offset, length);
+        try {
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장에 실패했습니다.", e);
+        }
+        size += length;
+    }
+
+    // 파일 형식 확인용 앞부분
+    public synchronized byte[] head() {
+        return Arrays.copyOf(head, (int) Math.min(size, HEAD_SIZE));
+    }
+
+    public synchronized long size() {
+        return size;
+    }
+
+    public synchronized StoredBlob commit() {
+        if (closed) {
+            throw new RuntimeException("이미 종료된 업로드입니다.");
+        }
+        try {
+            channel.force(false);
+            channel.close();
+            return storage.commit(temp, HexFormat.of().formatHex(digest.digest()), size);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장에 실패했습니다.", e);
+        } finally {
+            close();
+        }
+    }
+
+    // commit하지 않았으면 임시 파일 폐기
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 삭제는 계속 진행
+        }
+        storage.deleteQuietly(temp);
+    }
+}
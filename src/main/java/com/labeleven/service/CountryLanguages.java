@@ -0,0 +1,32 @@
+package com.labeleven.service;
+
+import java.util.Locale;
+import java.util.Map;
+
+// 프로젝트 국가 코드(ISO 3166-1 alpha-2) → 번역 대상 언어 (BCP 47)
+// 목록에 없는 국가는 국가 코드 자체를 언어 키로 사용 (다른 국가와 번역을 잘못 공유하지 않도록)
+public final class CountryLanguages {
+
+    private static final Map<String, String> LANGUAGES = Map.ofEntries(
+            Map.entry("KR", "ko"),
+            Map.entry("US", "en"), Map.entry("GB", "en"), Map.entry("CA", "en"), Map.entry("AU", "en"),
+            Map.entry("NZ", "en"), Map.entry("SG", "en"), Map.entry("PH", "en"), Map.entry("IN", "en"),
+            Map.entry("JP", "ja"),
+            Map.entry("CN", "zh-Hans"), Map.entry("TW", "zh-Hant"), Map.entry("HK", "zh-Hant"), Map.entry("MO", "zh-Hant"),
+            Map.entry("VN", "vi"), Map.entry("TH", "th"), Map.entry("ID", "id"), Map.entry("MY", "ms"),
+            Map.entry("DE", "de"), Map.entry("AT", "de"), Map.entry("FR", "fr"), Map.entry("IT", "it"),
+            Map.entry("ES", "es"), Map.entry("MX", "es"), Map.entry("NL", "nl"), Map.entry("RU", "ru"),
+            Map.entry("AE", "ar"), Map.entry("SA", "ar"), Map.entry("MN", "mn")
+    );
+
+    private CountryLanguages() {
+    }
+
+    public static String of(String country) {
+        if (country == null || country.isBlank()) {
+            throw new RuntimeException("프로젝트 국가가 지정되지 않았습니다.");
+        }
+        String code = country.trim().toUpperCase(Locale.ROOT);
+        return LANGUAGES.getOrDefault(code, code.toLowerCase(Locale.ROOT));
+    }
+}
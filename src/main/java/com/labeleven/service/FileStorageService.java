@@ -1,37 +1,239 @@
 package com.labeleven.service;
 
+import jakarta.annotation.PostConstruct;
+import com.labeleven.storage.StorageBackend;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
+// 내용 주소 저장소: 파일을 SHA-256으로 식별해 저장소(StorageBackend)의 blobs/ab/cd/<sha256>에 한 번만 저장
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class FileStorageService {
     
-    private final String uploadDir = "uploads";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern UPLOAD_ID = Pattern.compile("[0-9a-f\\-]{36}");
+    private static final Pattern DERIVED_NAME = Pattern.compile("[0-9A-Za-z._\\-]{1,64}");
     
-    public String storeFile(MultipartFile file, Long projectId) {
+    private final StorageBackend storageBackend;
+    
+    @Value("${storage.upload-dir:uploads}")
+    private String uploadDir;
+    
+    // 임시 파일은 로컬 저장소와 같은 파일시스템에 두어 복사 없이 하드 링크로 공개 (S3 저장소면 업로드 전 대기 위치)
+    private Path tempRoot;
+    
+    // 청크 업로드 중인 파일 (uploads/partial/<uploadId>)
+    private Path partialRoot;
+    
+    @PostConstruct
+    protected void init() throws IOException {
+        tempRoot = Paths.get(uploadDir, "tmp").toAbsolutePath();
+        partialRoot = Paths.get(uploadDir, "partial").toAbsolutePath();
+        Files.createDirectories(tempRoot);
+        Files.createDirectories(partialRoot);
+    }
+    
+    // multipart 업로드 저장. 컨테이너가 디스크에 받아 둔 파일은 복사 없이 rename되고, 해시는 한 번 읽어 계산
+    public StoredBlob storeFile(MultipartFile file) {
+        Path temp = newTempPath();
         try {
-            Path uploadPath = Paths.get(uploadDir, projectId.toString());
-            
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
+            // Part.write: 임시 파일이 있으면 이동, 메모리에 있으면 그대로 기록
+            file.transferTo(temp.toFile());
+            return commit(temp, hash(temp), Files.size(temp));
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장에 실패했습니다.", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+    
+    // 스트림 저장. 읽는 동안 해시를 함께 계산해 한 번의 쓰기로 끝냄
+    public StoredBlob store(InputStream in) {
+        Path temp = newTempPath();
+        MessageDigest digest = sha256();
+        try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(in, digest));
+             FileChannel target = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long size = 0;
+            long transferred;
+            while ((transferred = target.transferFrom(source, size, BUFFER_SIZE)) > 0) {
+                size += transferred;
             }
-            
-            String fileName = UUID.randomUUID().toString() + "_" + file.getOriginalFilename();
-            Path filePath = uploadPath.resolve(fileName);
-            
-            Files.copy(file.getInputStream(), filePath);
-            
-            return filePath.toString();
+            target.force(false);
+            return commit(temp, HexFormat.of().formatHex(digest.digest()), size);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장에 실패했습니다.", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+    
+    // 크기를 미리 알 수 없는 업로드(비동기 스트리밍 등)를 조각 단위로 받아 저장
+    public BlobSink openSink(long maxSize) {
+        Path temp = newTempPath();
+        try {
+            FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            return new BlobSink(this, temp, channel, sha256(), maxSize);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장에 실패했습니다.", e);
+        }
+    }
+    
+    public Path partialPath(String uploadId) {
+        if (uploadId == null || !UPLOAD_ID.matcher(uploadId).matches()) {
+            throw new RuntimeException("잘못된 업로드 식별자입니다.");
+        }
+        return partialRoot.resolve(uploadId);
+    }
+    
+    // 청크 업로드가 끝난 파일의 SHA-256 (blob으로 옮기기 전에 세션에 기록)
+    public String hashFile(Path file) {
+        try {
+            return hash(file);
+        } catch (IOException e) {
+            throw new RuntimeException("파일을 읽을 수 없습니다.", e);
+        }
+    }
+    
+    // 해시를 미리 계산한 파일을 blob으로 이동 (다시 복사하지 않음). 실패하면 원본 파일을 남겨 다시 시도할 수 있게 함
+    public StoredBlob adopt(Path file, String sha256, long size) {
+        StoredBlob blob = commit(file, sha256, size);
+        deleteQuietly(file);
+        return blob;
+    }
+    
+    public String blobKey(String sha256) {
+        if (sha256 == null || !SHA256_HEX.matcher(sha256).matches()) {
+            throw new RuntimeException("잘못된 파일 식별자입니다.");
+        }
+        return "blobs/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+    }
+    
+    public boolean exists(String sha256) {
+        return storageBackend.exists(blobKey(sha256));
+    }
+    
+    // 없으면 -1
+    public long size(String sha256) {
+        return storageBackend.size(blobKey(sha256));
+    }
+    
+    // [start, end] 구간 (end 포함)
+    public InputStream open(String sha256, long start, long end) {
+        return storageBackend.open(blobKey(sha256), start, end);
+    }
+    
+    // 원본에서 파생된 파일(축소 이미지 등)은 원본 옆 derived/ab/cd/<sha256>/<name>에 보관
+    public String derivedKey(String sha256, String name) {
+        if (name == null || !DERIVED_NAME.matcher(name).matches() || name.startsWith(".")) {
+            throw new RuntimeException("잘못된 파생 파일 이름입니다.");
+        }
+        return "derived" + blobKey(sha256).substring("blobs".length()) + "/" + name;
+    }
+    
+    // 이미 있으면 저장하지 않고 false
+    public boolean storeDerived(String sha256, String name, byte[] data, String contentType) {
+        String key = derivedKey(sha256, name);
+        Path temp = newTempPath();
+        try {
+            Files.write(temp, data, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            return storageBackend.storeIfAbsent(key, temp, data.length, contentType);
         } catch (IOException e) {
             throw new RuntimeException("파일 저장에 실패했습니다.", e);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+    
+    // 없으면 null
+    public byte[] readDerived(String sha256, String name) {
+        String key = derivedKey(sha256, name);
+        long size = storageBackend.size(key);
+        if (size <= 0) {
+            return null;
+        }
+        try (InputStream in = storageBackend.open(key, 0, size - 1)) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException("파일을 읽을 수 없습니다.", e);
+        }
+    }
+    
+    // 로컬 파일이 필요한 처리(POI 등)용. 로컬 저장소면 blob 경로를 그대로, 원격이면 임시 파일로 받아서 전달
+    public LocalBlob fetch(String sha256) {
+        String key = blobKey(sha256);
+        Path local = storageBackend.localPath(key);
+        if (local != null) {
+            return new LocalBlob(this, local, false);
+        }
+        
+        Path temp = newTempPath();
+        try {
+            storageBackend.download(key, temp);
+        } catch (RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+        return new LocalBlob(this, temp, true);
+    }
+    
+    // 같은 내용이 이미 있으면 임시 파일을 버리고, 없으면 저장소에 공개 (호출한 쪽에서 임시 파일 정리)
+    StoredBlob commit(Path temp, String sha256, long size) {
+        boolean stored = storageBackend.storeIfAbsent(blobKey(sha256), temp, size, null);
+        return new StoredBlob(sha256, size, !stored);
+    }
+    
+    private String hash(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+    
+    private Path newTempPath() {
+        return tempRoot.resolve(UUID.randomUUID().toString());
+    }
+    
+    void deleteQuietly(Path temp) {
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", temp, e);
+        }
+    }
+    
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 }
@@ -0,0 +1,260 @@
+package com.labeleven.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 라벨 이미지를 파이프라인 전송용 축소본으로 변환 (EXIF 방향 보정 → 긴 변 max-dimension 이하로 축소 → JPEG 재인코딩)
+// 축소본은 원본 해시 기준으로 원본 옆(derived/)에 캐시하고, 원본은 다운로드용으로 그대로 둠
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImagePreprocessingService {
+
+    public static final String DERIVED_CONTENT_TYPE = "image/jpeg";
+
+    private static final int EXIF_SCAN_LIMIT = 128 * 1024;
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    @Qualifier("imageProcessingTaskExecutor")
+    private final TaskExecutor imageProcessingTaskExecutor;
+
+    private final FileStorageService fileStorageService;
+
+    // 같은 원본을 동시에 두 번 변환하지 않도록 진행 중인 작업을 공유
+    private final Map<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${storage.images.preprocess.max-dimension:1600}")
+    private int maxDimension;
+
+    @Value("${storage.images.preprocess.quality:0.85}")
+    private float quality;
+
+    // 업로드 직후 전처리 풀에서 미리 생성 (대기열이 가득 차면 건너뛰고 파이프라인에서 필요할 때 생성)
+    public void preprocessAsync(String sha256) {
+        try {
+            imageProcessingTaskExecutor.execute(() -> {
+                try {
+                    getDerivative(sha256);
+                } catch (RuntimeException e) {
+                    log.warn("이미지 전처리 실패: sha256={}, reason={}", sha256, e.getMessage());
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("이미지 전처리 대기열 초과: sha256={}", sha256);
+        }
+    }
+
+    // 축소본 JPEG (캐시에 없으면 생성 후 저장)
+    public byte[] getDerivative(String sha256) {
+        String name = variantName();
+        byte[] cached = fileStorageService.readDerived(sha256, name);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<byte[]> created = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = inFlight.putIfAbsent(sha256, created);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+            }
+        }
+
+        try {
+            long startedAt = System.nanoTime();
+            byte[] data = createDerivative(sha256);
+            fileStorageService.storeDerived(sha256, name, data, DERIVED_CONTENT_TYPE);
+            log.debug("이미지 전처리 완료: sha256={}, bytes={}, elapsedMs={}",
+                    sha256, data.length, (System.nanoTime() - startedAt) / 1_000_000);
+            created.complete(data);
+            return data;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(sha256, created);
+        }
+    }
+
+    // 설정이 바뀌면 다른 이름으로 새로 생성됨
+    private String variantName() {
+        return maxDimension + "-q" + Math.round(quality * 100) + ".jpg";
+    }
+
+    private byte[] createDerivative(String sha256) {
+        try (LocalBlob original = fileStorageService.fetch(sha256);
+             ImageInputStream input = ImageIO.createImageInputStream(original.path().toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new RuntimeException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                // 목표 크기의 2배 이상은 남도록 디코딩 단계에서 픽셀을 건너뛰며 읽음 (12MP 원본 전체를 메모리에 올리지 않음)
+                int subsampling = Math.max(1, Math.max(width, height) / (maxDimension * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage image = reader.read(0, param);
+
+                int orientation = "jpeg".equalsIgnoreCase(reader.getFormatName())
+                        ? readExifOrientation(original.path()) : 1;
+                return encodeJpeg(orient(downscale(image), orientation));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("이미지를 읽을 수 없습니다.", e);
+        }
+    }
+
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 목표 크기로 맞춤
+    // 이미 작은 이미지도 한 번은 다시 그려 RGB(알파 없음)로 변환
+    private BufferedImage downscale(BufferedImage image) {
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(image.getWidth(), image.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = width / 2 >= targetWidth ? width / 2 : targetWidth;
+            height = height / 2 >= targetHeight ? height / 2 : targetHeight;
+            current = draw(current, width, height, AffineTransform.getScaleInstance(
+                    (double) width / current.getWidth(), (double) height / current.getHeight()));
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    // EXIF Orientation(1~8)에 따라 보이는 방향으로 회전/반전 (5~8은 가로세로가 바뀜)
+    private BufferedImage orient(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        return switch (orientation) {
+            case 2 -> draw(image, w, h, new AffineTransform(-1, 0, 0, 1, w, 0));
+            case 3 -> draw(image, w, h, new AffineTransform(-1, 0, 0, -1, w, h));
+            case 4 -> draw(image, w, h, new AffineTransform(1, 0, 0, -1, 0, h));
+            case 5 -> draw(image, h, w, new AffineTransform(0, 1, 1, 0, 0, 0));
+            case 6 -> draw(image, h, w, new AffineTransform(0, 1, -1, 0, h, 0));
+            case 7 -> draw(image, h, w, new AffineTransform(0, -1, -1, 0, h, w));
+            case 8 -> draw(image, h, w, new AffineTransform(0, -1, 1, 0, 0, w));
+            default -> image;
+        };
+    }
+
+    // JPEG는 알파 채널이 없으므로 투명 영역은 흰색으로 채움
+    private BufferedImage draw(BufferedImage source, int width, int height, AffineTransform transform) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    // JPEG APP1(Exif) 세그먼트의 IFD0에서 Orientation 태그만 읽음 (없거나 읽을 수 없으면 1)
+    private int readExifOrientation(Path file) {
+        byte[] head;
+        try (InputStream in = Files.newInputStream(file)) {
+            head = in.readNBytes(EXIF_SCAN_LIMIT);
+        } catch (IOException e) {
+            return 1;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(head);
+        try {
+            if ((buffer.getShort() & 0xFFFF) != 0xFFD8) {
+                return 1;
+            }
+            while (buffer.remaining() >= 4) {
+                int marker = buffer.getShort() & 0xFFFF;
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA) {
+                    return 1; // 이미지 데이터 시작 전까지 Exif 없음
+                }
+                int length = buffer.getShort() & 0xFFFF;
+                int segment = buffer.position();
+                // "Exif\0\0" 다음부터 TIFF 헤더
+                if (marker == 0xFFE1 && length >= 16 && buffer.getInt(segment) == 0x45786966) {
+                    return readOrientation(buffer.duplicate(), segment + 6);
+                }
+                buffer.position(segment + length - 2);
+            }
+        } catch (RuntimeException e) {
+            log.debug("Exif 방향 정보를 읽을 수 없습니다: {}", e.getMessage());
+        }
+        return 1;
+    }
+
+    private int readOrientation(ByteBuffer tiff, int start) {
+        tiff.order((tiff.getShort(start) & 0xFFFF) == 0x4949 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        int ifd = start + tiff.getInt(start + 4);
+        int entries = tiff.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if ((tiff.getShort(entry) & 0xFFFF) == ORIENTATION_TAG) {
+                int value = tiff.getShort(entry + 8) & 0xFFFF;
+                return value >= 1 && value <= 8 ? value : 1;
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,54 @@
+package com.labeleven.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+// (createdAt, id) 키셋 커서 인코딩 및 페이지 크기 제한
+final class KeysetCursor {
+    
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    
+    final LocalDateTime createdAt;
+    final Long id;
+    
+    private KeysetCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+    
+    static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    // 커서가 없으면 null (첫 페이지)
+    static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (Exception e) {
+            throw new RuntimeException("잘못된 커서입니다.");
+        }
+    }
+    
+    static int pageSize(Integer size, int defaultSize, int maxSize) {
+        if (size == null || size <= 0) {
+            return defaultSize;
+        }
+        return Math.min(size, maxSize);
+    }
+    
+    // 다음 페이지 여부 확인용으로 한 건 더 조회한 결과에서 초과분 제외
+    static <T> List<T> page(List<T> rows, int pageSize) {
+        return rows.size() > pageSize ? rows.subList(0, pageSize) : rows;
+    }
+}
@@ -0,0 +1,40 @@
+package com.labeleven.service;
+
+import com.labeleven.dto.LabelDataDTO;
+import com.labeleven.entity.LabelData;
+import com.labeleven.entity.Project;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 라벨 데이터 청크 단위 insert (청크마다 별도 트랜잭션, hibernate.jdbc.batch_size 단위로 묶여 전송)
+@Component
+@RequiredArgsConstructor
+public class LabelDataBatchWriter {
+    
+    private final EntityManager entityManager;
+    
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int writeChunk(Long projectId, List<LabelDataDTO.CreateRequest> chunk) {
+        Project project = entityManager.getReference(Project.class, projectId);
+        
+        for (LabelDataDTO.CreateRequest item : chunk) {
+            entityManager.persist(LabelData.builder()
+                    .fieldName(item.getFieldName())
+                    .originalValue(item.getOriginalValue())
+                    .translatedValue(item.getTranslatedValue())
+                    .category(item.getCategory())
+                    .project(project)
+                    .build());
+        }
+        
+        // 청크가 끝나면 영속성 컨텍스트를 비워 메모리가 누적되지 않도록 함
+        entityManager.flush();
+        entityManager.clear();
+        return chunk.size();
+    }
+}
@@ -0,0 +1,146 @@
+package com.labeleven.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.labeleven.dto.LabelDataDTO;
+import com.labeleven.entity.LabelData;
+import com.labeleven.repository.LabelDataRepository;
+import com.labeleven.security.OwnershipGuard;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+// 프로젝트 라벨 데이터를 응답 스트림에 바로 기록 (프로젝트 크기와 무관하게 일정한 메모리 사용)
+@Service
+@RequiredArgsConstructor
+public class LabelDataExporter {
+    
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    private static final String[] CSV_HEADER = {"id", "fieldName", "originalValue", "translatedValue", "category"};
+    
+    private final LabelDataRepository labelDataRepository;
+    private final ObjectMapper objectMapper;
+    private final OwnershipGuard ownershipGuard;
+    
+    @Getter
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv;charset=UTF-8", "csv");
+        
+        private final String contentType;
+        private final String extension;
+        
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+        
+        public static Format from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (Exception e) {
+                throw new RuntimeException("지원하지 않는 내보내기 형식입니다: " + value);
+            }
+        }
+    }
+    
+    // 응답 스트리밍 전에 요청 스레드에서 권한 확인
+    @Transactional(readOnly = true)
+    public void checkAccess(Long projectId, Long userId) {
+        ownershipGuard.checkProject(projectId, userId);
+    }
+    
+    // 트랜잭션 없이 키셋 청크 단위로 조회해 기록 (청크 조회마다 짧은 읽기 트랜잭션)
+    public void export(Long projectId, Format format, OutputStream out) throws IOException {
+        if (format == Format.CSV) {
+            writeCsv(projectId, out);
+        } else {
+            writeNdjson(projectId, out);
+        }
+    }
+    
+    private void writeNdjson(Long projectId, OutputStream out) throws IOException {
+        try (SequenceWriter writer = objectMapper.writerFor(LabelDataDTO.Response.class)
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValues(out)) {
+            forEachLabel(projectId, labelData -> writer.write(toDTO(labelData, projectId)));
+        }
+    }
+    
+    private void writeCsv(Long projectId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+        writer.write('\uFEFF');
+        writeCsvRow(writer, CSV_HEADER);
+        forEachLabel(projectId, labelData -> writeCsvRow(writer, new String[]{
+                String.valueOf(labelData.getId()),
+                labelData.getFieldName(),
+                labelData.getOriginalValue(),
+                labelData.getTranslatedValue(),
+                labelData.getCategory()
+        }));
+        writer.flush();
+    }
+    
+    // 조회한 청크는 트랜잭션이 끝나 분리된 상태라 영속성 컨텍스트에 쌓이지 않음
+    private void forEachLabel(Long projectId, IoConsumer<LabelData> consumer) throws IOException {
+        PageRequest chunkSize = PageRequest.ofSize(EXPORT_CHUNK_SIZE);
+        Long lastId = null;
+        List<LabelData> chunk;
+        do {
+            chunk = labelDataRepository.findChunk(projectId, lastId, chunkSize);
+            for (LabelData labelData : chunk) {
+                consumer.accept(labelData);
+                lastId = labelData.getId();
+            }
+        } while (chunk.size() == EXPORT_CHUNK_SIZE);
+    }
+    
+    private void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+    
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+    
+    private LabelDataDTO.Response toDTO(LabelData labelData, Long projectId) {
+        return LabelDataDTO.Response.builder()
+                .id(labelData.getId())
+                .fieldName(labelData.getFieldName())
+                .originalValue(labelData.getOriginalValue())
+                .translatedValue(labelData.getTranslatedValue())
+                .category(labelData.getCategory())
+                .projectId(projectId)
+                .build();
+    }
+    
+    private interface IoConsumer<T> {
+        void accept(T value) throws IOException;
+    }
+}
@@ -0,0 +1,17 @@
+package com.labeleven.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 프로젝트 업로드 파일 저장 후 라벨 데이터 가져오기 요청
+@Getter
+@RequiredArgsConstructor
+public class LabelDataImportEvent {
+
+    private final Long projectId;
+    // 저장소의 blob 식별자 (어느 노드에서든 FileStorageService로 읽을 수 있음)
+    private final String sha256;
+
+    // blob에는 확장자가 없으므로 형식 판단은 원래 파일명으로 함
+    private final String originalFilename;
+}
@@ -0,0 +1,167 @@
+package com.labeleven.service;
+
+import com.labeleven.dto.LabelDataDTO;
+import com.labeleven.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 업로드된 라벨 명세 파일을 행 단위로 읽어 label_data에 청크 단위로 저장
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LabelDataImporter {
+    
+    private static final String DEFAULT_CATEGORY = "미분류";
+    
+    // 헤더 이름(소문자, 공백/기호 제거) → 열 종류
+    private static final Map<String, Column> HEADER_ALIASES = Map.ofEntries(
+            Map.entry("fieldname", Column.FIELD_NAME),
+            Map.entry("field", Column.FIELD_NAME),
+            Map.entry("필드명", Column.FIELD_NAME),
+            Map.entry("항목명", Column.FIELD_NAME),
+            Map.entry("항목", Column.FIELD_NAME),
+            Map.entry("originalvalue", Column.ORIGINAL_VALUE),
+            Map.entry("original", Column.ORIGINAL_VALUE),
+            Map.entry("value", Column.ORIGINAL_VALUE),
+            Map.entry("원문", Column.ORIGINAL_VALUE),
+            Map.entry("값", Column.ORIGINAL_VALUE),
+            Map.entry("내용", Column.ORIGINAL_VALUE),
+            Map.entry("translatedvalue", Column.TRANSLATED_VALUE),
+            Map.entry("translation", Column.TRANSLATED_VALUE),
+            Map.entry("번역", Column.TRANSLATED_VALUE),
+            Map.entry("번역문", Column.TRANSLATED_VALUE),
+            Map.entry("category", Column.CATEGORY),
+            Map.entry("카테고리", Column.CATEGORY),
+            Map.entry("분류", Column.CATEGORY)
+    );
+    
+    @Qualifier("labelImportTaskExecutor")
+    private final TaskExecutor labelImportTaskExecutor;
+    
+    private final LabelDataBatchWriter labelDataBatchWriter;
+    private final FileStorageService fileStorageService;
+    private final ProjectRepository projectRepository;
+    
+    @Value("${label-data.ingest.chunk-size:1000}")
+    private int chunkSize;
+    
+    // 프로젝트 행이 커밋된 뒤에만 가져오기 시작 (업로드 요청은 즉시 반환)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onImport(LabelDataImportEvent event) {
+        try {
+            labelImportTaskExecutor.execute(() -> importFile(
+                    event.getProjectId(), event.getSha256(), event.getOriginalFilename()));
+        } catch (TaskRejectedException e) {
+            log.warn("라벨 데이터 가져오기 대기열 초과: projectId={}", event.getProjectId());
+            projectRepository.updateStatus(event.getProjectId(), "FAILED");
+        }
+    }
+    
+    private void importFile(Long projectId, String sha256, String fileName) {
+        long startedAt = System.currentTimeMillis();
+        ColumnMapping mapping = new ColumnMapping();
+        List<LabelDataDTO.CreateRequest> buffer = new ArrayList<>(chunkSize);
+        int[] imported = {0};
+        
+        // 원격 저장소면 임시 파일로 받아서 읽음 (xlsx는 임의 접근이 필요)
+        try (LocalBlob file = fileStorageService.fetch(sha256)) {
+            LabelSheetReader.read(file.path(), fileName, row -> {
+                LabelDataDTO.CreateRequest item = mapping.map(row);
+                if (item == null) {
+                    return;
+                }
+                buffer.add(item);
+                if (buffer.size() >= chunkSize) {
+                    imported[0] += labelDataBatchWriter.writeChunk(projectId, buffer);
+                    buffer.clear();
+                }
+            });
+            if (!buffer.isEmpty()) {
+                imported[0] += labelDataBatchWriter.writeChunk(projectId, buffer);
+            }
+            
+            projectRepository.updateStatus(projectId, "COMPLETED");
+            log.info("라벨 데이터 가져오기 완료: projectId={}, rows={}, elapsed={}ms",
+                    projectId, imported[0], System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 이미 커밋된 청크는 유지됨
+            log.error("라벨 데이터 가져오기 실패: projectId={}, importedRows={}", projectId, imported[0], e);
+            projectRepository.updateStatus(projectId, "FAILED");
+        }
+    }
+    
+    private enum Column {
+        FIELD_NAME, ORIGINAL_VALUE, TRANSLATED_VALUE, CATEGORY
+    }
+    
+    // 첫 행에서 헤더를 인식하면 헤더 기준, 아니면 (필드명, 원문, 카테고리, 번역) 순서로 간주
+    private static class ColumnMapping {
+        
+        private boolean resolved;
+        private int fieldName = 0;
+        private int originalValue = 1;
+        private int category = 2;
+        private int translatedValue = 3;
+        
+        private LabelDataDTO.CreateRequest map(List<String> row) {
+            if (!resolved) {
+                resolved = true;
+                if (resolveHeader(row)) {
+                    return null;
+                }
+            }
+            
+            String field = cell(row, fieldName);
+            String original = cell(row, originalValue);
+            if (field == null || original == null) {
+                return null;
+            }
+            String categoryValue = cell(row, category);
+            return LabelDataDTO.CreateRequest.builder()
+                    .fieldName(field)
+                    .originalValue(original)
+                    .translatedValue(cell(row, translatedValue))
+                    .category(categoryValue != null ? categoryValue : DEFAULT_CATEGORY)
+                    .build();
+        }
+        
+        private boolean resolveHeader(List<String> row) {
+            int[] columns = {-1, -1, -1, -1};
+            for (int i = 0; i < row.size(); i++) {
+                String header = row.get(i).toLowerCase(Locale.ROOT).replaceAll("[\\s_\\-]", "");
+                Column column = HEADER_ALIASES.get(header);
+                if (column != null && columns[column.ordinal()] < 0) {
+                    columns[column.ordinal()] = i;
+                }
+            }
+            if (columns[Column.FIELD_NAME.ordinal()] < 0 || columns[Column.ORIGINAL_VALUE.ordinal()] < 0) {
+                return false;
+            }
+            fieldName = columns[Column.FIELD_NAME.ordinal()];
+            originalValue = columns[Column.ORIGINAL_VALUE.ordinal()];
+            category = columns[Column.CATEGORY.ordinal()];
+            translatedValue = columns[Column.TRANSLATED_VALUE.ordinal()];
+            return true;
+        }
+        
+        private String cell(List<String> row, int index) {
+            if (index < 0 || index >= row.size()) {
+                return null;
+            }
+            String value = row.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+}
@@ -2,10 +2,11 @@ package com.labeleven.service;
 
 import com.labeleven.dto.LabelDataDTO;
 import com.labeleven.entity.LabelData;
-import com.labeleven.entity.Project;
 import com.labeleven.repository.LabelDataRepository;
-import com.labeleven.repository.ProjectRepository;
+import com.labeleven.security.OwnershipGuard;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,15 +17,30 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class LabelDataService {
     
+    // 라벨 데이터는 항목이 작고 많아 프로젝트/보고서보다 큰 페이지 허용
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    
     private final LabelDataRepository labelDataRepository;
-    private final ProjectRepository projectRepository;
+    private final LabelDataBatchWriter labelDataBatchWriter;
+    private final OwnershipGuard ownershipGuard;
+    
+    @Value("${label-data.ingest.chunk-size:1000}")
+    private int ingestChunkSize;
     
     @Transactional(readOnly = true)
-    public LabelDataDTO.ListResponse getProjectLabelData(Long projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("프로젝트를 찾을 수 없습니다."));
+    public LabelDataDTO.ListResponse getProjectLabelData(Long projectId, Long userId, Long cursor, Integer size) {
+        ownershipGuard.checkProject(projectId, userId);
         
-        List<LabelData> labelDataList = labelDataRepository.findByProjectId(projectId);
+        int pageSize = KeysetCursor.pageSize(size, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+        
+        // 다음 페이지 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<LabelData> rows = cursor == null
+                ? labelDataRepository.findByProjectIdOrderByIdAsc(projectId, limit)
+                : labelDataRepository.findByProjectIdAndIdGreaterThanOrderByIdAsc(projectId, cursor, limit);
+        List<LabelData> labelDataList = KeysetCursor.page(rows, pageSize);
+        boolean hasNext = rows.size() > pageSize;
         
         List<LabelDataDTO.Response> responseDTOs = labelDataList.stream()
                 .map(this::convertToDTO)
@@ -32,18 +48,53 @@ public class LabelDataService {
         
         return LabelDataDTO.ListResponse.builder()
                 .labelData(responseDTOs)
-                .totalCount(responseDTOs.size())
+                .nextCursor(hasNext ? labelDataList.get(labelDataList.size() - 1).getId() : null)
+                .hasNext(hasNext)
                 .build();
     }
     
     @Transactional(readOnly = true)
-    public LabelDataDTO.Response getLabelData(Long id) {
-        LabelData labelData = labelDataRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("라벨 데이터를 찾을 수 없습니다."));
+    public long countProjectLabelData(Long projectId, Long userId) {
+        ownershipGuard.checkProject(projectId, userId);
+        return labelDataRepository.countByProjectId(projectId);
+    }
+    
+    @Transactional(readOnly = true)
+    public LabelDataDTO.Response getLabelData(Long id, Long userId) {
+        LabelData labelData = ownershipGuard.getLabelData(id, userId);
         
         return convertToDTO(labelData);
     }
     
+    // 청크마다 커밋하므로 입력 검증은 저장 전에 전체를 먼저 수행
+    public LabelDataDTO.BulkCreateResponse bulkInsert(Long projectId, Long userId, List<LabelDataDTO.CreateRequest> items) {
+        ownershipGuard.checkProject(projectId, userId);
+        
+        if (items == null || items.isEmpty()) {
+            throw new RuntimeException("저장할 라벨 데이터가 없습니다.");
+        }
+        for (int i = 0; i < items.size(); i++) {
+            LabelDataDTO.CreateRequest item = items.get(i);
+            if (item == null || isBlank(item.getFieldName()) || item.getOriginalValue() == null || isBlank(item.getCategory())) {
+                throw new RuntimeException((i + 1) + "번째 항목에 필수 값(fieldName, originalValue, category)이 없습니다.");
+            }
+        }
+        
+        int inserted = 0;
+        for (int from = 0; from < items.size(); from += ingestChunkSize) {
+            List<LabelDataDTO.CreateRequest> chunk = items.subList(from, Math.min(from + ingestChunkSize, items.size()));
+            inserted += labelDataBatchWriter.writeChunk(projectId, chunk);
+        }
+        
+        return LabelDataDTO.BulkCreateResponse.builder()
+                .insertedCount(inserted)
+                .build();
+    }
+    
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+    
     private LabelDataDTO.Response convertToDTO(LabelData labelData) {
         return LabelDataDTO.Response.builder()
                 .id(labelData.getId())
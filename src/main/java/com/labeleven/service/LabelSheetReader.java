@@ -0,0 +1,174 @@
+package com.labeleven.service;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+// 업로드된 xlsx/csv를 한 행씩 읽어 전달 (워크북/파일 전체를 메모리에 올리지 않음)
+final class LabelSheetReader {
+    
+    private LabelSheetReader() {
+    }
+    
+    static boolean isSupported(String fileName) {
+        String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+        return name.endsWith(".xlsx") || name.endsWith(".csv");
+    }
+    
+    static void read(Path file, String fileName, Consumer<List<String>> rowConsumer) {
+        String name = (fileName != null ? fileName : file.getFileName().toString()).toLowerCase(Locale.ROOT);
+        try {
+            if (name.endsWith(".xlsx")) {
+                readXlsx(file, rowConsumer);
+            } else if (name.endsWith(".csv")) {
+                readCsv(file, rowConsumer);
+            } else {
+                throw new RuntimeException("xlsx 또는 csv 파일만 가져올 수 있습니다.");
+            }
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+    
+    // 첫 번째 시트만 SAX 이벤트로 읽음
+    private static void readXlsx(Path file, Consumer<List<String>> rowConsumer) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg, false);
+            StylesTable styles = reader.getStylesTable();
+            
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, strings, new RowCollector(rowConsumer), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        }
+    }
+    
+    // RFC 4180 (따옴표 안의 쉼표/줄바꿈 허용), UTF-8 BOM 무시
+    private static void readCsv(Path file, Consumer<List<String>> rowConsumer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<String> row = new ArrayList<>();
+            StringBuilder cell = new StringBuilder();
+            boolean quoted = false;
+            boolean first = true;
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (first) {
+                    first = false;
+                    if (c == '\uFEFF') {
+                        continue;
+                    }
+                }
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            cell.append('"');
+                        } else {
+                            quoted = false;
+                            if (next != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        cell.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    row.add(cell.toString());
+                    cell.setLength(0);
+                } else if (c == '\n' || c == '\r') {
+                    if (c == '\r') {
+                        reader.mark(1);
+                        if (reader.read() != '\n') {
+                            reader.reset();
+                        }
+                    }
+                    row.add(cell.toString());
+                    cell.setLength(0);
+                    rowConsumer.accept(row);
+                    row = new ArrayList<>();
+                } else {
+                    cell.append((char) c);
+                }
+            }
+            if (cell.length() > 0 || !row.isEmpty()) {
+                row.add(cell.toString());
+                rowConsumer.accept(row);
+            }
+        }
+    }
+    
+    // 셀 이벤트를 열 위치에 맞춘 행 목록으로 변환 (빈 셀은 "")
+    private static class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        
+        private final Consumer<List<String>> rowConsumer;
+        private List<String> row;
+        
+        private RowCollector(Consumer<List<String>> rowConsumer) {
+            this.rowConsumer = rowConsumer;
+        }
+        
+        @Override
+        public void startRow(int rowNum) {
+            row = new ArrayList<>();
+        }
+        
+        @Override
+        public void endRow(int rowNum) {
+            rowConsumer.accept(row);
+        }
+        
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? columnIndex(cellReference) : row.size();
+            while (row.size() < column) {
+                row.add("");
+            }
+            row.add(formattedValue != null ? formattedValue : "");
+        }
+        
+        // "AB12" → 27 (셀마다 CellReference를 만들지 않도록 열 문자만 계산)
+        private static int columnIndex(String cellReference) {
+            int column = 0;
+            for (int i = 0; i < cellReference.length(); i++) {
+                char c = cellReference.charAt(i);
+                if (c < 'A' || c > 'Z') {
+                    break;
+                }
+                column = column * 26 + (c - 'A' + 1);
+            }
+            return column - 1;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.labeleven.service;
+
+import java.nio.file.Path;
+
+// blob을 로컬 파일로 읽기 위한 핸들. 원격 저장소에서 임시로 받은 파일이면 close 시 삭제
+public class LocalBlob implements AutoCloseable {
+
+    private final FileStorageService storage;
+    private final Path path;
+    private final boolean temporary;
+
+    LocalBlob(FileStorageService storage, Path path, boolean temporary) {
+        this.storage = storage;
+        this.path = path;
+        this.temporary = temporary;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    @Override
+    public void close() {
+        if (temporary) {
+            storage.deleteQuietly(path);
+        }
+    }
+}
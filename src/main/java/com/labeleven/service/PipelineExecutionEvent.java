@@ -0,0 +1,14 @@
+package com.labeleven.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 파이프라인 생성/재개 트랜잭션 커밋 후 실행을 시작하기 위한 이벤트
+@Getter
+@RequiredArgsConstructor
+public class PipelineExecutionEvent {
+
+    private final Long pipelineId;
+
+    private final int attempt;
+}
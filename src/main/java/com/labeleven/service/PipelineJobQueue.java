@@ -0,0 +1,83 @@
+package com.labeleven.service;
+
+import com.labeleven.entity.PipelineJob;
+import com.labeleven.repository.PipelineJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 파이프라인 실행 작업 큐 (pipeline_jobs). 등록은 파이프라인 생성/재개와 같은 트랜잭션에서 하므로
+// 커밋된 RUNNING 파이프라인에는 항상 작업이 남아 있고, 노드가 재시작되어도 유실되지 않음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PipelineJobQueue {
+
+    private final PipelineJobRepository pipelineJobRepository;
+    private final PipelineStepRecorder stepRecorder;
+
+    @Value("${pipeline.jobs.lease:60s}")
+    private Duration lease;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onPipelineExecution(PipelineExecutionEvent event) {
+        pipelineJobRepository.save(PipelineJob.builder()
+                .pipelineId(event.getPipelineId())
+                .attempt(event.getAttempt())
+                .status("QUEUED")
+                .claimCount(0)
+                .build());
+    }
+
+    // 최대 limit개를 owner 임대로 가져옴
+    // 임대가 만료된 작업은 파이프라인 회차를 올려 이어받음 (이전 워커가 살아 있어도 다음 단계에서 중단)
+    // 커밋 이후(AFTER_COMMIT) 호출될 수 있으므로 항상 새 트랜잭션에서 실행
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<PipelineJob> claim(String owner, int limit) {
+        List<PipelineJob> claimed = new ArrayList<>();
+        for (PipelineJob job : pipelineJobRepository.lockClaimable(limit)) {
+            if ("RUNNING".equals(job.getStatus())) {
+                Integer attempt = stepRecorder.takeOver(job.getPipelineId(), job.getAttempt());
+                if (attempt == null) {
+                    pipelineJobRepository.markDone(job.getId(), LocalDateTime.now());
+                    continue;
+                }
+                log.warn("임대 만료된 파이프라인 작업 이어받기: jobId={}, pipelineId={}, attempt={}",
+                        job.getId(), job.getPipelineId(), attempt);
+                pipelineJobRepository.updateAttempt(job.getId(), attempt);
+                job.setAttempt(attempt);
+            }
+            claimed.add(job);
+        }
+
+        pipelineJobRepository.markClaimed(claimed.stream().map(PipelineJob::getId).toList(), owner, lease);
+        return claimed;
+    }
+
+    public int extend(String owner, Collection<Long> jobIds) {
+        return pipelineJobRepository.extendLeases(jobIds, owner, lease);
+    }
+
+    public void finish(Long jobId, String owner) {
+        pipelineJobRepository.finish(jobId, owner, LocalDateTime.now());
+    }
+
+    public void release(Long jobId, String owner) {
+        pipelineJobRepository.release(jobId, owner, LocalDateTime.now());
+    }
+
+    public int purgeFinished(LocalDateTime before) {
+        return pipelineJobRepository.deleteDoneBefore(before);
+    }
+}
@@ -0,0 +1,180 @@
+package com.labeleven.service;
+
+import com.labeleven.entity.PipelineJob;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 노드별 파이프라인 워커: 여유 슬롯만큼 pipeline_jobs에서 작업을 가져와 실행하고, 실행 중에는 임대를 연장
+// 노드가 죽으면 임대가 만료되어 다른 노드가 이어받음 (완료된 단계는 다시 실행하지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PipelineJobWorker {
+
+    @Qualifier("pipelineTaskExecutor")
+    private final TaskExecutor pipelineTaskExecutor;
+
+    private final PipelineJobQueue jobQueue;
+    private final PipelineRunner pipelineRunner;
+
+    @Value("${pipeline.jobs.node-id:}")
+    private String nodeId;
+
+    @Value("${pipeline.jobs.max-concurrent:4}")
+    private int maxConcurrent;
+
+    @Value("${pipeline.jobs.retention:7d}")
+    private Duration retention;
+
+    @Value("${pipeline.jobs.heartbeat-interval:PT20S}")
+    private Duration heartbeatInterval;
+
+    // 임대 연장 전용 스레드. 공용 @Scheduled 스레드(SSE heartbeat, 정리 작업 등)가 막혀도 임대가 만료되지 않도록 분리
+    private ScheduledExecutorService leaseScheduler;
+
+    // 이 노드가 임대 중인 작업 (jobId → 작업)
+    private final Map<Long, PipelineJob> running = new ConcurrentHashMap<>();
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    @PostConstruct
+    protected void init() {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = hostname() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+        log.info("파이프라인 워커 시작: nodeId={}, maxConcurrent={}", nodeId, maxConcurrent);
+
+        leaseScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pipeline-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = heartbeatInterval.toMillis();
+        leaseScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                heartbeat();
+            } catch (RuntimeException e) {
+                log.warn("파이프라인 작업 임대 연장 실패: nodeId={}", nodeId, e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        leaseScheduler.shutdownNow();
+    }
+
+    // 요청을 받은 노드는 커밋 직후 바로 가져가 대기 시간을 줄임 (여유가 없으면 다른 노드가 폴링으로 가져감)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPipelineExecution(PipelineExecutionEvent event) {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("파이프라인 작업 가져오기 실패: pipelineId={}", event.getPipelineId(), e);
+        }
+    }
+
+    // 이미 다른 스레드가 가져오는 중이면 건너뜀 (다음 폴링에서 처리)
+    @Scheduled(fixedDelayString = "${pipeline.jobs.poll-interval:PT2S}")
+    public void poll() {
+        if (!pollLock.tryLock()) {
+            return;
+        }
+        try {
+            int capacity = maxConcurrent - running.size();
+            if (capacity <= 0) {
+                return;
+            }
+            List<PipelineJob> jobs = jobQueue.claim(nodeId, capacity);
+            for (PipelineJob job : jobs) {
+                start(job);
+            }
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private void heartbeat() {
+        if (running.isEmpty()) {
+            return;
+        }
+        int extended = jobQueue.extend(nodeId, running.keySet());
+        if (extended < running.size()) {
+            // 임대를 잃은 작업은 다른 노드가 새 회차로 이어받았으므로 이 노드의 실행은 다음 단계에서 중단됨
+            log.warn("파이프라인 작업 임대 일부 만료: nodeId={}, running={}, extended={}", nodeId, running.size(), extended);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${pipeline.jobs.cleanup-interval:PT1H}")
+    public void purgeFinished() {
+        int removed = jobQueue.purgeFinished(LocalDateTime.now().minus(retention));
+        if (removed > 0) {
+            log.info("끝난 파이프라인 작업 정리: {}건", removed);
+        }
+    }
+
+    private void start(PipelineJob job) {
+        running.put(job.getId(), job);
+        try {
+            pipelineTaskExecutor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            running.remove(job.getId());
+            jobQueue.release(job.getId(), nodeId);
+            log.warn("파이프라인 실행 풀 포화로 작업 반환: jobId={}, pipelineId={}", job.getId(), job.getPipelineId());
+        }
+    }
+
+    // 정상 종료했을 때만 완료 처리. 상태를 기록하기 전에 실패하면(DB 오류 등) 대기 상태로 되돌려 다시 실행
+    private void run(PipelineJob job) {
+        try {
+            pipelineRunner.run(job.getPipelineId(), job.getAttempt());
+        } catch (RuntimeException e) {
+            running.remove(job.getId());
+            log.error("파이프라인 실행 중 오류, 작업 반환: jobId={}, pipelineId={}", job.getId(), job.getPipelineId(), e);
+            try {
+                jobQueue.release(job.getId(), nodeId);
+            } catch (RuntimeException releaseError) {
+                // 반환하지 못한 작업은 임대 만료 후 다른 노드가 이어받음
+                log.warn("파이프라인 작업 반환 실패: jobId={}", job.getId(), releaseError);
+            }
+            return;
+        }
+
+        running.remove(job.getId());
+        try {
+            jobQueue.finish(job.getId(), nodeId);
+        } catch (RuntimeException e) {
+            // 기록하지 못한 작업은 임대 만료 후 이어받은 노드가 파이프라인 상태를 보고 정리
+            log.warn("파이프라인 작업 완료 기록 실패: jobId={}", job.getId(), e);
+        }
+    }
+
+    private static String hostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+}
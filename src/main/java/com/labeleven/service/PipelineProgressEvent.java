@@ -0,0 +1,14 @@
+package com.labeleven.service;
+
+import com.labeleven.dto.PipelineDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 단계/진행률 변경 시 발행 (커밋 후 SSE로 전송)
+@Getter
+@RequiredArgsConstructor
+public class PipelineProgressEvent {
+
+    private final Long reportId;
+    private final PipelineDTO.Response response;
+}
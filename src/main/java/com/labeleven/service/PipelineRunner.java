@@ -0,0 +1,117 @@
+package com.labeleven.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.labeleven.client.AiStageClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PipelineRunner {
+
+    @Qualifier("pipelineStageTaskExecutor")
+    private final TaskExecutor pipelineStageTaskExecutor;
+
+    private final PipelineStepRecorder stepRecorder;
+    private final PipelineStageRequestBuilder requestBuilder;
+    private final TranslationStageExecutor translationStageExecutor;
+    private final StageOutputMemo stageOutputMemo;
+    private final AiStageClient aiStageClient;
+    private final ObjectMapper objectMapper;
+
+    // PipelineJobWorker가 작업 임대를 잡은 스레드에서 호출
+    // 의존 단계가 모두 끝난 단계부터 단계 풀에서 병렬 실행
+    // 이미 완료된 단계(재개/이어받기 시)는 실행하지 않고 저장된 결과를 후속 단계 입력으로 사용
+    public void run(Long pipelineId, int attempt) {
+        Set<PipelineStage> completed = stepRecorder.completedStages(pipelineId);
+        Map<PipelineStage, CompletableFuture<Void>> futures = new EnumMap<>(PipelineStage.class);
+        for (PipelineStage stage : PipelineStage.values()) {
+            if (completed.contains(stage)) {
+                futures.put(stage, CompletableFuture.completedFuture(null));
+                continue;
+            }
+            CompletableFuture<?>[] dependencies = stage.getDependencies().stream()
+                    .map(futures::get)
+                    .toArray(CompletableFuture[]::new);
+            futures.put(stage, CompletableFuture.allOf(dependencies)
+                    .thenRunAsync(() -> runStage(pipelineId, attempt, stage), pipelineStageTaskExecutor));
+        }
+        if (!completed.isEmpty()) {
+            log.info("파이프라인 재개: pipelineId={}, attempt={}, completed={}", pipelineId, attempt, completed);
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+            stepRecorder.completePipeline(pipelineId, attempt);
+        } catch (CompletionException e) {
+            // 단계 실패/중단은 이미 기록됨. 그 외 기록되지 않은 실패만 보정
+            if (!(e.getCause() instanceof StageAbortedException)) {
+                stepRecorder.failPipeline(pipelineId, attempt, "파이프라인 실행 실패: " + e.getCause().getMessage());
+            }
+        }
+    }
+
+    private void runStage(Long pipelineId, int attempt, PipelineStage stage) {
+        if (!stepRecorder.startStep(pipelineId, attempt, stage)) {
+            log.info("파이프라인 실행 중단: pipelineId={}, attempt={}, stage={}", pipelineId, attempt, stage);
+            throw new StageAbortedException();
+        }
+
+        try {
+            String result = executeStage(pipelineId, stage);
+            stepRecorder.completeStep(pipelineId, stage, result);
+        } catch (Exception e) {
+            log.error("파이프라인 단계 실패: pipelineId={}, stage={}", pipelineId, stage, e);
+            stepRecorder.failStep(pipelineId, attempt, stage, e.getMessage());
+            throw new StageAbortedException();
+        }
+    }
+
+    // 요청 구성만 트랜잭션 안에서 하고, AI 호출 동안에는 커넥션을 잡지 않음
+    // 번역 단계는 같은 요청에서 번역 메모리에 있는 항목을 빼고 남은 항목만 요청
+    // 같은 입력으로 이미 실행한 단계는 저장된 결과를 재사용 (번역 단계도 전체 요청 기준으로 메모해 후속 단계 입력이 같게 유지)
+    private String executeStage(Long pipelineId, PipelineStage stage) {
+        String request = requestBuilder.build(pipelineId, stage);
+        String result = stageOutputMemo.computeIfAbsent(stage, request, () -> stage == PipelineStage.TRANSLATION
+                ? translationStageExecutor.execute(pipelineId, request)
+                : aiStageClient.execute(stage, request));
+        validateJson(result);
+        return result;
+    }
+
+    // 결과는 조회 시 파싱 없이 그대로 응답에 포함되므로 저장 전에 한 번만 검증 (트리 생성 없이 토큰만 읽음)
+    // 최상위 값은 하나여야 함 (`{} {}`처럼 뒤에 값이 더 있으면 응답 JSON이 깨짐)
+    private void validateJson(String result) {
+        if (result == null || result.isBlank()) {
+            throw new RuntimeException("AI 서버 응답이 비어 있습니다.");
+        }
+        boolean valid;
+        try (JsonParser parser = objectMapper.getFactory().createParser(result)) {
+            valid = parser.nextToken() != null;
+            parser.skipChildren();
+            valid = valid && parser.nextToken() == null;
+        } catch (Exception e) {
+            valid = false;
+        }
+        if (!valid) {
+            throw new RuntimeException("AI 서버 응답이 올바른 JSON이 아닙니다.");
+        }
+    }
+
+    // 이미 상태가 기록된 단계 종료 (후속 단계 실행 안 함)
+    private static class StageAbortedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -1,37 +1,37 @@
 package com.labeleven.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.labeleven.dto.PipelineDTO;
 import com.labeleven.entity.Pipeline;
 import com.labeleven.entity.Report;
 import com.labeleven.repository.PipelineRepository;
-import com.labeleven.repository.ReportRepository;
+import com.labeleven.repository.PipelineResultRepository;
+import com.labeleven.repository.PipelineStepRepository;
+import com.labeleven.security.OwnershipGuard;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class PipelineService {
     
     private final PipelineRepository pipelineRepository;
-    private final ReportRepository reportRepository;
-    private final ObjectMapper objectMapper;
+    private final PipelineStepRepository pipelineStepRepository;
+    private final PipelineResultRepository pipelineResultRepository;
+    private final PipelineStepRecorder stepRecorder;
+    private final OwnershipGuard ownershipGuard;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
-    public PipelineDTO.Response executePipeline(String userEmail, PipelineDTO.ExecuteRequest request) {
-        Report report = reportRepository.findById(request.getReportId())
-                .orElseThrow(() -> new RuntimeException("보고서를 찾을 수 없습니다."));
-        
-        if (!report.getProject().getUser().getEmail().equals(userEmail)) {
-            throw new RuntimeException("권한이 없습니다.");
-        }
+    public PipelineDTO.Response executePipeline(Long userId, PipelineDTO.ExecuteRequest request) {
+        Report report = ownershipGuard.getReport(request.getReportId(), userId);
         
         if (!"APPROVED".equals(report.getStatus())) {
             throw new RuntimeException("승인된 보고서만 파이프라인 실행이 가능합니다.");
@@ -42,69 +42,76 @@ public class PipelineService {
                 .report(report)
                 .status("RUNNING")
                 .progress(0)
+                .attempt(1)
                 .startedAt(LocalDateTime.now())
                 .build();
         
+        pipeline = pipelineRepository.save(pipeline);
+        
         // 초기 단계 상태 설정
-        List<PipelineDTO.StepStatus> steps = initializeSteps();
-        try {
-            pipeline.setStepStatuses(objectMapper.writeValueAsString(steps));
-        } catch (Exception e) {
-            throw new RuntimeException("단계 초기화 실패", e);
-        }
+        pipelineStepRepository.saveAll(PipelineSteps.initial(pipeline));
         
-        pipeline = pipelineRepository.save(pipeline);
+        // 커밋 후 PipelineRunner가 워커 풀에서 단계 실행
+        eventPublisher.publishEvent(new PipelineExecutionEvent(pipeline.getId(), pipeline.getAttempt()));
         
-        // TODO: 비동기로 FastAPI 호출 (실제 구현은 별도로)
-        // executePipelineAsync(pipeline.getId());
+        PipelineDTO.Response response = convertToResponse(pipeline);
+        eventPublisher.publishEvent(new PipelineProgressEvent(report.getId(), response));
+        return response;
+    }
+    
+    @Transactional(readOnly = true)
+    public PipelineDTO.Response getPipelineStatus(Long userId, Long pipelineId) {
+        Pipeline pipeline = ownershipGuard.getPipeline(pipelineId, userId);
         
         return convertToResponse(pipeline);
     }
     
+    // 보고서의 최신 파이프라인 상태 (없으면 null)
     @Transactional(readOnly = true)
-    public PipelineDTO.Response getPipelineStatus(String userEmail, Long pipelineId) {
-        Pipeline pipeline = pipelineRepository.findById(pipelineId)
-                .orElseThrow(() -> new RuntimeException("파이프라인을 찾을 수 없습니다."));
-        
-        if (!pipeline.getReport().getProject().getUser().getEmail().equals(userEmail)) {
-            throw new RuntimeException("권한이 없습니다.");
-        }
+    public PipelineDTO.Response getLatestPipelineStatus(Long userId, Long reportId) {
+        ownershipGuard.checkReport(reportId, userId);
         
-        return convertToResponse(pipeline);
+        return pipelineRepository.findFirstByReportIdOrderByCreatedAtDesc(reportId)
+                .map(this::convertToResponse)
+                .orElse(null);
     }
     
     @Transactional(readOnly = true)
-    public PipelineDTO.ResultResponse getPipelineResult(String userEmail, Long pipelineId) {
-        Pipeline pipeline = pipelineRepository.findById(pipelineId)
-                .orElseThrow(() -> new RuntimeException("파이프라인을 찾을 수 없습니다."));
+    public PipelineDTO.ResultResponse getPipelineResult(Long userId, Long pipelineId, List<String> parts) {
+        // 엔티티 로딩 없이 상태만 조회
+        String status = ownershipGuard.getPipelineStatus(pipelineId, userId);
         
-        if (!pipeline.getReport().getProject().getUser().getEmail().equals(userEmail)) {
-            throw new RuntimeException("권한이 없습니다.");
+        if (!"COMPLETED".equals(status)) {
+            throw new RuntimeException("완료된 파이프라인만 결과 조회가 가능합니다.");
         }
         
-        if (!"COMPLETED".equals(pipeline.getStatus())) {
-            throw new RuntimeException("완료된 파이프라인만 결과 조회가 가능합니다.");
+        // 요청한 단계의 컬럼만 조회 (parts 미지정 시 전체)
+        Set<PipelineStage> stages = EnumSet.allOf(PipelineStage.class);
+        if (parts != null && !parts.isEmpty()) {
+            stages = EnumSet.noneOf(PipelineStage.class);
+            for (String part : parts) {
+                stages.add(PipelineStage.fromPath(part.trim()));
+            }
         }
+        Map<PipelineStage, String> results = pipelineResultRepository.findResults(pipelineId, stages);
         
         return PipelineDTO.ResultResponse.builder()
-                .pipelineId(pipeline.getId())
-                .schemaResult(parseJson(pipeline.getSchemaResult()))
-                .translationResult(parseJson(pipeline.getTranslationResult()))
-                .diagnosisResult(parseJson(pipeline.getDiagnosisResult()))
-                .checklistResult(parseJson(pipeline.getChecklistResult()))
-                .finalReportResult(parseJson(pipeline.getFinalReportResult()))
+                .pipelineId(pipelineId)
+                .schemaResult(rawResult(stages, results, PipelineStage.SCHEMA))
+                .translationResult(rawResult(stages, results, PipelineStage.TRANSLATION))
+                .diagnosisResult(rawResult(stages, results, PipelineStage.DIAGNOSIS))
+                .checklistResult(rawResult(stages, results, PipelineStage.CHECKLIST))
+                .finalReportResult(rawResult(stages, results, PipelineStage.FINAL_REPORT))
                 .build();
     }
     
     @Transactional
-    public void stopPipeline(String userEmail, Long pipelineId) {
-        Pipeline pipeline = pipelineRepository.findById(pipelineId)
+    public void stopPipeline(Long userId, Long pipelineId) {
+        // 소유권 확인 후 파이프라인 행만 잠금 (조인 대상 행까지 잠그지 않도록 분리)
+        ownershipGuard.checkPipeline(pipelineId, userId);
+        Pipeline pipeline = pipelineRepository.findByIdForUpdate(pipelineId)
                 .orElseThrow(() -> new RuntimeException("파이프라인을 찾을 수 없습니다."));
         
-        if (!pipeline.getReport().getProject().getUser().getEmail().equals(userEmail)) {
-            throw new RuntimeException("권한이 없습니다.");
-        }
-        
         if (!"RUNNING".equals(pipeline.getStatus())) {
             throw new RuntimeException("실행 중인 파이프라인만 중단할 수 있습니다.");
         }
@@ -112,52 +119,45 @@ public class PipelineService {
         pipeline.setStatus("STOPPED");
         pipeline.setCompletedAt(LocalDateTime.now());
         pipelineRepository.save(pipeline);
+        
+        eventPublisher.publishEvent(new PipelineProgressEvent(pipeline.getReport().getId(), convertToResponse(pipeline)));
     }
     
+    // 실패/중단된 파이프라인을 첫 미완료 단계부터 이어서 실행 (완료된 단계의 결과는 재사용)
     @Transactional
-    public PipelineDTO.Response reExecutePipeline(String userEmail, Long pipelineId) {
-        Pipeline oldPipeline = pipelineRepository.findById(pipelineId)
+    public PipelineDTO.Response resumePipeline(Long userId, Long pipelineId) {
+        ownershipGuard.checkPipeline(pipelineId, userId);
+        Pipeline pipeline = pipelineRepository.findByIdForUpdate(pipelineId)
                 .orElseThrow(() -> new RuntimeException("파이프라인을 찾을 수 없습니다."));
         
-        if (!oldPipeline.getReport().getProject().getUser().getEmail().equals(userEmail)) {
-            throw new RuntimeException("권한이 없습니다.");
+        if (!"FAILED".equals(pipeline.getStatus()) && !"STOPPED".equals(pipeline.getStatus())) {
+            throw new RuntimeException("실패했거나 중단된 파이프라인만 재개할 수 있습니다.");
         }
+        if (!"APPROVED".equals(pipeline.getReport().getStatus())) {
+            throw new RuntimeException("승인된 보고서만 파이프라인 실행이 가능합니다.");
+        }
+        
+        // 커밋 후 PipelineRunner가 완료되지 않은 단계만 실행
+        stepRecorder.restart(pipeline);
+        
+        return convertToResponse(pipeline);
+    }
+    
+    @Transactional
+    public PipelineDTO.Response reExecutePipeline(Long userId, Long pipelineId) {
+        Pipeline oldPipeline = ownershipGuard.getPipeline(pipelineId, userId);
         
         // 새로운 파이프라인 생성
         PipelineDTO.ExecuteRequest request = PipelineDTO.ExecuteRequest.builder()
                 .reportId(oldPipeline.getReport().getId())
                 .build();
         
-        return executePipeline(userEmail, request);
-    }
-    
-    private List<PipelineDTO.StepStatus> initializeSteps() {
-        List<PipelineDTO.StepStatus> steps = new ArrayList<>();
-        String[] stepNames = {"스키마 추출", "번역", "진단", "체크리스트", "최종보고서"};
-        
-        for (String stepName : stepNames) {
-            steps.add(PipelineDTO.StepStatus.builder()
-                    .stepName(stepName)
-                    .status("PENDING")
-                    .progress(0)
-                    .build());
-        }
-        
-        return steps;
+        return executePipeline(userId, request);
     }
     
     private PipelineDTO.Response convertToResponse(Pipeline pipeline) {
-        List<PipelineDTO.StepStatus> steps = new ArrayList<>();
-        try {
-            if (pipeline.getStepStatuses() != null) {
-                steps = objectMapper.readValue(
-                        pipeline.getStepStatuses(),
-                        objectMapper.getTypeFactory().constructCollectionType(List.class, PipelineDTO.StepStatus.class)
-                );
-            }
-        } catch (Exception e) {
-            // JSON 파싱 실패 시 빈 리스트
-        }
+        List<PipelineDTO.StepStatus> steps = PipelineSteps.toStatuses(
+                pipelineStepRepository.findByPipelineIdOrderByStepOrder(pipeline.getId()));
         
         return PipelineDTO.Response.builder()
                 .id(pipeline.getId())
@@ -170,14 +170,12 @@ public class PipelineService {
                 .build();
     }
     
-    private Map<String, Object> parseJson(String json) {
-        try {
-            if (json == null || json.isEmpty()) {
-                return new HashMap<>();
-            }
-            return objectMapper.readValue(json, Map.class);
-        } catch (Exception e) {
-            return new HashMap<>();
+    // 요청했지만 결과가 없는 단계는 빈 객체로 응답
+    private String rawResult(Set<PipelineStage> stages, Map<PipelineStage, String> results, PipelineStage stage) {
+        if (!stages.contains(stage)) {
+            return null;
         }
+        String result = results.get(stage);
+        return result == null || result.isBlank() ? "{}" : result;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package com.labeleven.service;
+
+import lombok.Getter;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+// 파이프라인 단계 의존 그래프 (의존 단계는 항상 앞에 선언되어 선언 순서가 곧 위상 순서)
+@Getter
+public enum PipelineStage {
+
+    SCHEMA("스키마 추출", "schema"),
+    TRANSLATION("번역", "translation"), // 원문(originalValue) 번역은 스키마 추출과 무관
+    DIAGNOSIS("진단", "diagnosis", SCHEMA, TRANSLATION),
+    CHECKLIST("체크리스트", "checklist", SCHEMA, TRANSLATION), // 진단과 병렬 실행
+    FINAL_REPORT("최종보고서", "final-report", DIAGNOSIS, CHECKLIST);
+
+    private final String stepName;
+    private final String path; // AI 서버 엔드포인트 경로 (/api/stages/{path})
+    private final List<PipelineStage> dependencies;
+
+    PipelineStage(String stepName, String path, PipelineStage... dependencies) {
+        this.stepName = stepName;
+        this.path = path;
+        this.dependencies = List.of(dependencies);
+    }
+
+    public static PipelineStage fromPath(String path) {
+        for (PipelineStage stage : values()) {
+            if (stage.path.equals(path)) {
+                return stage;
+            }
+        }
+        throw new RuntimeException("알 수 없는 결과 항목입니다: " + path);
+    }
+
+    // 직간접적으로 선행되어야 하는 모든 단계
+    public Set<PipelineStage> getAncestors() {
+        Set<PipelineStage> ancestors = EnumSet.noneOf(PipelineStage.class);
+        for (PipelineStage dependency : dependencies) {
+            ancestors.add(dependency);
+            ancestors.addAll(dependency.getAncestors());
+        }
+        return ancestors;
+    }
+}
@@ -0,0 +1,142 @@
+package com.labeleven.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.labeleven.entity.LabelData;
+import com.labeleven.entity.Pipeline;
+import com.labeleven.entity.Project;
+import com.labeleven.entity.ProjectFile;
+import com.labeleven.repository.LabelDataRepository;
+import com.labeleven.repository.PipelineRepository;
+import com.labeleven.repository.PipelineResultRepository;
+import com.labeleven.repository.ProjectFileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// 단계 호출 직전 짧은 읽기 트랜잭션으로 AI 요청 본문을 구성
+// 스키마 추출 단계에는 프로젝트 이미지의 축소본을 함께 보냄 (변환/인코딩은 트랜잭션 밖에서)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PipelineStageRequestBuilder {
+
+    private final PipelineRepository pipelineRepository;
+    private final PipelineResultRepository pipelineResultRepository;
+    private final LabelDataRepository labelDataRepository;
+    private final ProjectFileRepository projectFileRepository;
+    private final ImagePreprocessingService imagePreprocessingService;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${storage.images.max-original-size:10MB}")
+    private DataSize maxOriginalSize;
+
+    public String build(Long pipelineId, PipelineStage stage) {
+        List<ProjectFile> images = new ArrayList<>();
+        ObjectNode request = transactionTemplate.execute(status -> buildRequest(pipelineId, stage, images));
+        if (!images.isEmpty()) {
+            attachImages(request.putArray("images"), images);
+        }
+
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (Exception e) {
+            throw new RuntimeException("AI 요청 생성 실패", e);
+        }
+    }
+
+    private ObjectNode buildRequest(Long pipelineId, PipelineStage stage, List<ProjectFile> images) {
+        Pipeline pipeline = pipelineRepository.findById(pipelineId)
+                .orElseThrow(() -> new RuntimeException("파이프라인을 찾을 수 없습니다."));
+        Project project = pipeline.getReport().getProject();
+
+        ObjectNode request = objectMapper.createObjectNode();
+        request.put("pipelineId", pipeline.getId());
+        request.put("reportId", pipeline.getReport().getId());
+        request.put("projectId", project.getId());
+        request.put("country", project.getCountry());
+        request.put("stage", stage.getPath());
+        if (stage == PipelineStage.TRANSLATION) {
+            request.put("targetLanguage", CountryLanguages.of(project.getCountry()));
+        }
+
+        ArrayNode fields = request.putArray("labelData");
+        for (LabelData labelData : labelDataRepository.findByProjectId(project.getId())) {
+            fields.addObject()
+                    .put("id", labelData.getId())
+                    .put("fieldName", labelData.getFieldName())
+                    .put("originalValue", labelData.getOriginalValue())
+                    .put("translatedValue", labelData.getTranslatedValue())
+                    .put("category", labelData.getCategory());
+        }
+
+        // 선행 단계(의존 그래프 상 조상) 결과 컬럼만 조회해 그대로 전달
+        ObjectNode previousResults = request.putObject("previousResults");
+        pipelineResultRepository.findResults(pipelineId, stage.getAncestors())
+                .forEach((previous, result) -> {
+                    if (!result.isEmpty()) {
+                        previousResults.set(previous.getPath(), readTree(result));
+                    }
+                });
+
+        if (stage == PipelineStage.SCHEMA) {
+            images.addAll(projectFileRepository.findByProjectIdAndKindOrderByIdAsc(project.getId(), "IMAGE"));
+        }
+        return request;
+    }
+
+    // 축소본을 만들 수 없는 이미지(디코더 미지원 형식 등)만 원본을 그대로 보냄
+    // 원본이 max-original-size보다 크면 요청 본문이 과도하게 커지므로 해당 이미지는 제외
+    private void attachImages(ArrayNode target, List<ProjectFile> images) {
+        for (ProjectFile image : images) {
+            byte[] data;
+            String contentType;
+            try {
+                data = imagePreprocessingService.getDerivative(image.getSha256());
+                contentType = ImagePreprocessingService.DERIVED_CONTENT_TYPE;
+            } catch (RuntimeException e) {
+                if (image.getSize() > maxOriginalSize.toBytes()) {
+                    log.warn("이미지 축소본 생성 실패, 원본이 너무 커서 제외: fileId={}, size={}, reason={}",
+                            image.getId(), image.getSize(), e.getMessage());
+                    continue;
+                }
+                log.warn("이미지 축소본 생성 실패, 원본 전송: fileId={}, reason={}", image.getId(), e.getMessage());
+                data = readOriginal(image);
+                contentType = image.getContentType();
+            }
+            target.addObject()
+                    .put("fileId", image.getId())
+                    .put("filename", image.getOriginalFilename())
+                    .put("contentType", contentType)
+                    .put("data", data);
+        }
+    }
+
+    private byte[] readOriginal(ProjectFile image) {
+        try (InputStream in = fileStorageService.open(image.getSha256(), 0, image.getSize() - 1)) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException("이미지를 읽을 수 없습니다: " + image.getOriginalFilename(), e);
+        }
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            return objectMapper.getNodeFactory().textNode(json);
+        }
+    }
+}
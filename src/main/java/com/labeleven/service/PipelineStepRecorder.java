@@ -0,0 +1,181 @@
+package com.labeleven.service;
+
+import com.labeleven.dto.PipelineDTO;
+import com.labeleven.entity.Pipeline;
+import com.labeleven.repository.PipelineRepository;
+import com.labeleven.repository.PipelineResultRepository;
+import com.labeleven.repository.PipelineStepRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+// 파이프라인 단계별 상태/결과를 짧은 트랜잭션으로 기록 (단계 실행 중에는 커넥션을 잡지 않음)
+@Service
+@RequiredArgsConstructor
+public class PipelineStepRecorder {
+
+    private final PipelineRepository pipelineRepository;
+    private final PipelineStepRepository pipelineStepRepository;
+    private final PipelineResultRepository pipelineResultRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 이미 완료된 단계 (재개 시 다시 실행하지 않음)
+    @Transactional(readOnly = true)
+    public Set<PipelineStage> completedStages(Long pipelineId) {
+        Set<PipelineStage> stages = EnumSet.noneOf(PipelineStage.class);
+        PipelineStage[] values = PipelineStage.values();
+        for (Integer stepOrder : pipelineStepRepository.findCompletedStepOrders(pipelineId)) {
+            stages.add(values[stepOrder]);
+        }
+        return stages;
+    }
+
+    // 완료되지 않은 단계를 대기 상태로 되돌리고 실행 회차를 올림 (호출 측이 파이프라인 행을 잠근 상태)
+    // 커밋 시 새 회차의 작업이 등록되며, 이전 회차의 워커는 다음 단계를 시작하지 않음
+    @Transactional
+    public void restart(Pipeline pipeline) {
+        resetIncomplete(pipeline);
+        pipeline.setStatus("RUNNING");
+        pipeline.setCompletedAt(null);
+        pipelineRepository.save(pipeline);
+
+        eventPublisher.publishEvent(new PipelineExecutionEvent(pipeline.getId(), pipeline.getAttempt()));
+        publishProgress(pipeline);
+    }
+
+    // 임대가 만료된 작업을 다른 워커가 이어받을 때 새 회차를 반환
+    // 파이프라인이 더 이상 실행 중이 아니거나 작업의 회차가 지난 경우(재개됨) null
+    @Transactional
+    public Integer takeOver(Long pipelineId, int attempt) {
+        Pipeline pipeline = lockPipeline(pipelineId);
+
+        if (!isCurrent(pipeline, attempt)) {
+            return null;
+        }
+
+        resetIncomplete(pipeline);
+        pipelineRepository.save(pipeline);
+        publishProgress(pipeline);
+        return pipeline.getAttempt();
+    }
+
+    @Transactional
+    public boolean startStep(Long pipelineId, int attempt, PipelineStage stage) {
+        Pipeline pipeline = lockPipeline(pipelineId);
+
+        // 중단되었거나 다른 회차로 재개된 파이프라인은 다음 단계를 시작하지 않음
+        if (!isCurrent(pipeline, attempt)) {
+            return false;
+        }
+
+        pipelineStepRepository.markStarted(pipelineId, stage.ordinal(), LocalDateTime.now());
+        publishProgress(pipeline);
+        return true;
+    }
+
+    // 결과와 완료 상태를 한 트랜잭션에 기록 (재개 시 이 단계부터는 다시 실행하지 않음)
+    // 이전 회차의 결과도 유효하므로 회차와 관계없이 기록
+    @Transactional
+    public void completeStep(Long pipelineId, PipelineStage stage, String result) {
+        Pipeline pipeline = lockPipeline(pipelineId);
+        pipelineResultRepository.upsertResult(pipelineId, stage, result);
+
+        pipelineStepRepository.markCompleted(pipelineId, stage.ordinal(), LocalDateTime.now());
+
+        long completed = pipelineStepRepository.countByPipelineIdAndStatus(pipelineId, "COMPLETED");
+        pipeline.setProgress((int) (completed * 100 / PipelineStage.values().length));
+        publishProgress(pipeline);
+    }
+
+    @Transactional
+    public void failStep(Long pipelineId, int attempt, PipelineStage stage, String message) {
+        Pipeline pipeline = lockPipeline(pipelineId);
+
+        // 다른 회차로 재개된 뒤의 실패는 새 회차의 단계 상태를 덮어쓰지 않음
+        if (!attemptMatches(pipeline, attempt)) {
+            return;
+        }
+
+        pipelineStepRepository.markFailed(pipelineId, stage.ordinal(), message, LocalDateTime.now());
+
+        if ("RUNNING".equals(pipeline.getStatus())) {
+            pipeline.setStatus("FAILED");
+            pipeline.setCompletedAt(LocalDateTime.now());
+        }
+        publishProgress(pipeline);
+    }
+
+    @Transactional
+    public void completePipeline(Long pipelineId, int attempt) {
+        Pipeline pipeline = lockPipeline(pipelineId);
+
+        if (isCurrent(pipeline, attempt)) {
+            pipeline.setStatus("COMPLETED");
+            pipeline.setProgress(100);
+            pipeline.setCompletedAt(LocalDateTime.now());
+            publishProgress(pipeline);
+        }
+    }
+
+    // 커밋 이후(AFTER_COMMIT) 호출될 수 있으므로 항상 새 트랜잭션에서 기록
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void failPipeline(Long pipelineId, int attempt, String message) {
+        Pipeline pipeline = lockPipeline(pipelineId);
+
+        if (isCurrent(pipeline, attempt)) {
+            pipelineStepRepository.updateIncompleteMessages(pipelineId, message);
+
+            pipeline.setStatus("FAILED");
+            pipeline.setCompletedAt(LocalDateTime.now());
+            publishProgress(pipeline);
+        }
+    }
+
+    // 커밋 후 ProgressBroadcaster가 SSE 구독자에게 전송
+    private void publishProgress(Pipeline pipeline) {
+        eventPublisher.publishEvent(new PipelineProgressEvent(
+                pipeline.getReport().getId(),
+                PipelineDTO.Response.builder()
+                        .id(pipeline.getId())
+                        .reportId(pipeline.getReport().getId())
+                        .status(pipeline.getStatus())
+                        .progress(pipeline.getProgress())
+                        .steps(PipelineSteps.toStatuses(
+                                pipelineStepRepository.findByPipelineIdOrderByStepOrder(pipeline.getId())))
+                        .startedAt(pipeline.getStartedAt())
+                        .completedAt(pipeline.getCompletedAt())
+                        .build()));
+    }
+
+    private void resetIncomplete(Pipeline pipeline) {
+        pipelineStepRepository.resetIncomplete(pipeline.getId());
+
+        long completed = pipelineStepRepository.countByPipelineIdAndStatus(pipeline.getId(), "COMPLETED");
+        pipeline.setProgress((int) (completed * 100 / PipelineStage.values().length));
+        pipeline.setAttempt(attemptOf(pipeline) + 1);
+    }
+
+    private boolean isCurrent(Pipeline pipeline, int attempt) {
+        return "RUNNING".equals(pipeline.getStatus()) && attemptMatches(pipeline, attempt);
+    }
+
+    private boolean attemptMatches(Pipeline pipeline, int attempt) {
+        return attemptOf(pipeline) == attempt;
+    }
+
+    // 회차 컬럼 추가 전에 만든 파이프라인은 1회차
+    static int attemptOf(Pipeline pipeline) {
+        return pipeline.getAttempt() != null ? pipeline.getAttempt() : 1;
+    }
+
+    private Pipeline lockPipeline(Long pipelineId) {
+        return pipelineRepository.findByIdForUpdate(pipelineId)
+                .orElseThrow(() -> new RuntimeException("파이프라인을 찾을 수 없습니다."));
+    }
+}
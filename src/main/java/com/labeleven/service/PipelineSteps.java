@@ -0,0 +1,60 @@
+package com.labeleven.service;
+
+import com.labeleven.dto.PipelineDTO;
+import com.labeleven.entity.Pipeline;
+import com.labeleven.entity.PipelineStep;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// pipeline_steps 행 생성 및 응답 변환
+final class PipelineSteps {
+
+    private PipelineSteps() {
+    }
+
+    static List<PipelineStep> initial(Pipeline pipeline) {
+        List<PipelineStep> steps = new ArrayList<>();
+
+        for (PipelineStage stage : PipelineStage.values()) {
+            steps.add(PipelineStep.builder()
+                    .pipeline(pipeline)
+                    .stepOrder(stage.ordinal())
+                    .stepName(stage.getStepName())
+                    .status("PENDING")
+                    .progress(0)
+                    .build());
+        }
+
+        return steps;
+    }
+
+    static List<PipelineDTO.StepStatus> toStatuses(List<PipelineStep> steps) {
+        return steps.stream()
+                .map(PipelineSteps::toStatus)
+                .collect(Collectors.toList());
+    }
+
+    private static PipelineDTO.StepStatus toStatus(PipelineStep step) {
+        return PipelineDTO.StepStatus.builder()
+                .stepName(step.getStepName())
+                .dependsOn(dependsOn(step.getStepOrder()))
+                .status(step.getStatus())
+                .progress(step.getProgress())
+                .message(step.getMessage())
+                .startedAt(step.getStartedAt())
+                .completedAt(step.getCompletedAt())
+                .build();
+    }
+
+    private static List<String> dependsOn(Integer stepOrder) {
+        PipelineStage[] stages = PipelineStage.values();
+        if (stepOrder == null || stepOrder < 0 || stepOrder >= stages.length) {
+            return List.of();
+        }
+        return stages[stepOrder].getDependencies().stream()
+                .map(PipelineStage::getStepName)
+                .collect(Collectors.toList());
+    }
+}
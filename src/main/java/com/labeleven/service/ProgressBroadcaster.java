@@ -0,0 +1,283 @@
+package com.labeleven.service;
+
+import com.labeleven.dto.PipelineDTO;
+import com.labeleven.entity.ProgressEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// 파이프라인/보고서 진행 상황 SSE 전송 (채널별 최근 이벤트를 보관해 Last-Event-ID 재연결 시 재전송)
+// 파이프라인은 어느 노드에서든 실행되므로 이벤트를 progress_events에 기록하고, 각 노드가 폴링해 자기 구독자에게 전달
+// 이벤트 ID는 progress_events.id라 모든 노드에서 같음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProgressBroadcaster {
+
+    private static final int REPLAY_BUFFER_SIZE = 100;
+    private static final int FANOUT_BATCH_SIZE = 500;
+    private static final long TERMINAL_RECONNECT_MILLIS = Duration.ofDays(1).toMillis();
+
+    private final ProgressEventStore progressEventStore;
+
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    // 이 노드가 기록한 이벤트 구분용
+    private final String origin = UUID.randomUUID().toString();
+
+    // 다른 노드의 이벤트를 이 ID까지 전달함
+    private volatile long cursor;
+
+    // 이 노드가 마지막으로 기록한 이벤트 ID
+    private volatile long localLatest;
+
+    @Value("${sse.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${sse.idle-channel-ttl:5m}")
+    private Duration idleChannelTtl;
+
+    // 앞 번호 이벤트가 아직 커밋 전일 수 있어 번호가 빈 경우 이 시간만큼 기다린 뒤 건너뜀
+    @Value("${sse.fanout.gap-wait:2s}")
+    private Duration gapWait;
+
+    @Value("${sse.fanout.retention:10m}")
+    private Duration retention;
+
+    @PostConstruct
+    protected void init() {
+        cursor = progressEventStore.latestId();
+    }
+
+    public static String pipelineChannel(Long pipelineId) {
+        return "pipeline:" + pipelineId;
+    }
+
+    public static String reportChannel(Long reportId) {
+        return "report:" + reportId;
+    }
+
+    // 재연결(lastEventId)이 버퍼로 이어지면 놓친 이벤트만 재전송, 아니면 스냅샷부터 전송
+    public SseEmitter subscribe(String channelKey, Long lastEventId, Supplier<Map<String, Object>> snapshot) {
+        return subscribe(channelKey, lastEventId, snapshot, current -> false);
+    }
+
+    // terminal: 스냅샷이 이미 종료 상태인지. 상태 확인 후 구독 전에 종료 이벤트가 지나갔을 수 있으므로
+    // 채널 락 안에서 읽은 스냅샷이 종료 상태거나 재전송한 이벤트에 종료 이벤트가 있으면 보내고 바로 닫음
+    public SseEmitter subscribe(String channelKey, Long lastEventId, Supplier<Map<String, Object>> snapshot,
+                                Predicate<Map<String, Object>> terminal) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Channel channel = channels.computeIfAbsent(channelKey, key -> new Channel(Math.max(cursor, localLatest)));
+        channel.touch();
+
+        emitter.onCompletion(() -> channel.emitters.remove(emitter));
+        emitter.onTimeout(() -> channel.emitters.remove(emitter));
+        emitter.onError(e -> channel.emitters.remove(emitter));
+
+        // 스냅샷 조회와 등록을 채널 락 안에서 해 이후 이벤트가 스냅샷보다 먼저 나가지 않도록 함
+        synchronized (channel) {
+            try {
+                boolean last = false;
+                if (lastEventId != null && channel.canReplayFrom(lastEventId)) {
+                    for (Event event : channel.buffer) {
+                        if (event.id > lastEventId) {
+                            emitter.send(event.toBuilder());
+                            last = last || event.last;
+                        }
+                    }
+                } else {
+                    Map<String, Object> current = snapshot.get();
+                    last = terminal.test(current);
+                    for (Map.Entry<String, Object> entry : current.entrySet()) {
+                        SseEmitter.SseEventBuilder event = SseEmitter.event()
+                                .id(String.valueOf(channel.latest))
+                                .name(entry.getKey())
+                                .data(entry.getValue());
+                        emitter.send(last ? event.reconnectTime(TERMINAL_RECONNECT_MILLIS) : event);
+                    }
+                }
+                if (last) {
+                    emitter.complete();
+                } else {
+                    channel.emitters.add(emitter);
+                }
+                channel.touch();
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+            }
+        }
+        return emitter;
+    }
+
+    // 이미 종료된 대상: 한 번 보내고 닫음 (구독 등록 없음)
+    public SseEmitter sendLast(String name, Object data) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(name)
+                    .data(data)
+                    .reconnectTime(TERMINAL_RECONNECT_MILLIS));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPipelineProgress(PipelineProgressEvent event) {
+        PipelineDTO.Response response = event.getResponse();
+        boolean terminal = !"RUNNING".equals(response.getStatus());
+        broadcast(pipelineChannel(response.getId()), "progress", response, terminal);
+        broadcast(reportChannel(event.getReportId()), "pipeline", response, false);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReportStatus(ReportStatusEvent event) {
+        broadcast(reportChannel(event.getStatus().getReportId()), "report", event.getStatus(), false);
+    }
+
+    // progress_events에 기록해 다른 노드에도 전달하고, 이 노드의 구독자에게는 바로 전송
+    // 기록에 실패하면 이 노드에만 ID 없이 전송
+    private void broadcast(String channelKey, String name, Object data, boolean last) {
+        long id = 0;
+        try {
+            id = progressEventStore.append(origin, channelKey, name, data, last);
+            localLatest = Math.max(localLatest, id);
+        } catch (RuntimeException e) {
+            log.warn("진행 이벤트 기록 실패, 이 노드에만 전송: channel={}", channelKey, e);
+        }
+        publish(channelKey, id, name, data, last);
+    }
+
+    // 다른 노드가 기록한 이벤트를 ID 순으로 전달
+    @Scheduled(fixedDelayString = "${sse.fanout.poll-interval:PT1S}")
+    public void pollRemote() {
+        List<ProgressEvent> events = progressEventStore.findAfter(cursor, FANOUT_BATCH_SIZE);
+        LocalDateTime gapDeadline = LocalDateTime.now().minus(gapWait);
+        for (ProgressEvent event : events) {
+            if (event.getId() != cursor + 1 && event.getCreatedAt().isAfter(gapDeadline)) {
+                break;
+            }
+            if (!origin.equals(event.getOrigin()) && channels.containsKey(event.getChannelKey())) {
+                publish(event.getChannelKey(), event.getId(), event.getName(),
+                        progressEventStore.read(event), Boolean.TRUE.equals(event.getLastEvent()));
+            }
+            cursor = event.getId();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sse.fanout.cleanup-interval:PT5M}")
+    public void purgeEvents() {
+        progressEventStore.purgeBefore(LocalDateTime.now().minus(retention));
+    }
+
+    // last=true면 전송 후 연결을 닫고 재연결 주기를 길게 설정 (종료된 파이프라인)
+    private void publish(String channelKey, long id, String name, Object data, boolean last) {
+        Channel channel = channels.get(channelKey);
+        if (channel == null) {
+            return;
+        }
+
+        synchronized (channel) {
+            Event event = channel.append(id, name, data, last);
+            for (SseEmitter emitter : channel.emitters) {
+                try {
+                    emitter.send(event.toBuilder());
+                    if (last) {
+                        emitter.complete();
+                    }
+                } catch (Exception e) {
+                    channel.emitters.remove(emitter);
+                }
+            }
+            channel.touch();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        channels.forEach((key, channel) -> {
+            for (SseEmitter emitter : channel.emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (Exception e) {
+                    channel.emitters.remove(emitter);
+                }
+            }
+            synchronized (channel) {
+                if (channel.emitters.isEmpty() && now - channel.lastActivity > idleChannelTtl.toMillis()) {
+                    channels.remove(key, channel);
+                }
+            }
+        });
+    }
+
+    private static class Channel {
+
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final Deque<Event> buffer = new ArrayDeque<>();
+
+        // 생성 시점 이후의 이벤트는 모두 버퍼에 있음. 버퍼에서 밀려나면 evicted가 그 ID로 올라감
+        private long evicted;
+        private long latest;
+        private volatile long lastActivity = System.currentTimeMillis();
+
+        private Channel(long since) {
+            this.evicted = since;
+            this.latest = since;
+        }
+
+        // id가 0이면 (기록 실패) 클라이언트의 마지막 이벤트 ID를 바꾸지 않도록 ID 없이 전송
+        private Event append(long id, String name, Object data, boolean last) {
+            Event event = new Event(id > 0 ? id : latest, id > 0, name, data, last);
+            latest = Math.max(latest, event.id);
+            buffer.addLast(event);
+            if (buffer.size() > REPLAY_BUFFER_SIZE) {
+                evicted = buffer.removeFirst().id;
+            }
+            return event;
+        }
+
+        private boolean canReplayFrom(long lastEventId) {
+            return lastEventId >= evicted;
+        }
+
+        private void touch() {
+            lastActivity = System.currentTimeMillis();
+        }
+    }
+
+    private record Event(long id, boolean hasId, String name, Object data, boolean last) {
+
+        private SseEmitter.SseEventBuilder toBuilder() {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                    .name(name)
+                    .data(data);
+            if (hasId) {
+                builder.id(String.valueOf(id));
+            }
+            return last ? builder.reconnectTime(TERMINAL_RECONNECT_MILLIS) : builder;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.labeleven.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.labeleven.entity.ProgressEvent;
+import com.labeleven.repository.ProgressEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// progress_events 기록/조회 (ProgressBroadcaster의 노드 간 전달용)
+@Service
+@RequiredArgsConstructor
+public class ProgressEventStore {
+
+    private final ProgressEventRepository progressEventRepository;
+    private final ObjectMapper objectMapper;
+
+    // 커밋 이후(AFTER_COMMIT) 호출되므로 항상 새 트랜잭션에서 기록. 기록한 이벤트 ID 반환
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long append(String origin, String channelKey, String name, Object data, boolean last) {
+        ProgressEvent event = progressEventRepository.save(ProgressEvent.builder()
+                .channelKey(channelKey)
+                .name(name)
+                .payload(write(data))
+                .lastEvent(last)
+                .origin(origin)
+                .build());
+        return event.getId();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProgressEvent> findAfter(long id, int limit) {
+        return progressEventRepository.findByIdGreaterThanOrderById(id, PageRequest.of(0, limit));
+    }
+
+    @Transactional(readOnly = true)
+    public long latestId() {
+        return progressEventRepository.findMaxId();
+    }
+
+    public int purgeBefore(LocalDateTime before) {
+        return progressEventRepository.deleteCreatedBefore(before);
+    }
+
+    public JsonNode read(ProgressEvent event) {
+        try {
+            return objectMapper.readTree(event.getPayload());
+        } catch (Exception e) {
+            throw new RuntimeException("진행 이벤트를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private String write(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (Exception e) {
+            throw new RuntimeException("진행 이벤트를 기록할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.labeleven.service;
+
+import com.labeleven.dto.ProjectDTO;
+import com.labeleven.entity.Project;
+import com.labeleven.entity.ProjectFile;
+import com.labeleven.repository.ProjectFileRepository;
+import com.labeleven.repository.ProjectRepository;
+import com.labeleven.security.OwnershipGuard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+// 프로젝트 파일(이미지 등) 업로드: 저장은 I/O 풀에서 병렬로, DB 기록은 짧은 트랜잭션 하나로 처리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectFileService {
+
+    private static final Set<String> IMAGE_TYPES = Set.of(
+            "image/jpeg", "image/png", "image/webp", "image/gif", "image/tiff", "image/bmp");
+
+    @Qualifier("storageIoTaskExecutor")
+    private final TaskExecutor storageIoTaskExecutor;
+
+    private final FileStorageService fileStorageService;
+    private final ImagePreprocessingService imagePreprocessingService;
+    private final ProjectRepository projectRepository;
+    private final ProjectFileRepository projectFileRepository;
+    private final OwnershipGuard ownershipGuard;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${storage.images.max-files:100}")
+    private int maxImageFiles;
+
+    // 파일별로 검증/저장하고 결과를 요청 순서대로 반환 (일부 실패해도 나머지는 저장)
+    // MultipartFile 임시 파일은 요청이 끝나면 삭제되므로 모든 저장이 끝난 뒤 반환
+    public ProjectDTO.ImageUploadResponse uploadImages(Long projectId, Long userId, MultipartFile[] files) {
+        ownershipGuard.checkProject(projectId, userId);
+        if (files == null || files.length == 0) {
+            throw new RuntimeException("업로드할 이미지가 없습니다.");
+        }
+        if (files.length > maxImageFiles) {
+            throw new RuntimeException("한 번에 최대 " + maxImageFiles + "개의 이미지만 업로드할 수 있습니다.");
+        }
+
+        List<CompletableFuture<StoredBlob>> futures = new ArrayList<>(files.length);
+        for (MultipartFile file : files) {
+            futures.add(CompletableFuture.supplyAsync(() -> storeImage(file), storageIoTaskExecutor));
+        }
+
+        List<ProjectFile> saved = new ArrayList<>();
+        List<ProjectDTO.ImageUploadResult> results = new ArrayList<>(files.length);
+        for (int i = 0; i < files.length; i++) {
+            MultipartFile file = files[i];
+            String filename = filename(file);
+            try {
+                StoredBlob blob = futures.get(i).join();
+                ProjectFile projectFile = ProjectFile.builder()
+                        .kind("IMAGE")
+                        .originalFilename(filename)
+                        .contentType(file.getContentType())
+                        .sha256(blob.getSha256())
+                        .size(blob.getSize())
+                        .build();
+                saved.add(projectFile);
+                results.add(ProjectDTO.ImageUploadResult.builder()
+                        .filename(filename)
+                        .success(true)
+                        .file(toDTO(projectFile, blob.isDeduplicated()))
+                        .build());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("이미지 저장 실패: projectId={}, file={}, reason={}", projectId, filename, cause.getMessage());
+                results.add(ProjectDTO.ImageUploadResult.builder()
+                        .filename(filename)
+                        .success(false)
+                        .message(cause.getMessage())
+                        .build());
+            }
+        }
+
+        if (!saved.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                Project project = projectRepository.getReferenceById(projectId);
+                saved.forEach(projectFile -> projectFile.setProject(project));
+                projectFileRepository.saveAll(saved);
+            });
+            // 저장이 확정된 이미지만 전처리 풀에 넘김 (요청 스레드는 기다리지 않음)
+            saved.stream()
+                    .map(ProjectFile::getSha256)
+                    .distinct()
+                    .forEach(imagePreprocessingService::preprocessAsync);
+        }
+
+        // 저장 후 채번된 id/생성 시각 반영
+        int index = 0;
+        for (ProjectDTO.ImageUploadResult result : results) {
+            if (result.isSuccess()) {
+                ProjectFile projectFile = saved.get(index++);
+                result.getFile().setId(projectFile.getId());
+                result.getFile().setCreatedAt(projectFile.getCreatedAt());
+            }
+        }
+
+        return ProjectDTO.ImageUploadResponse.builder()
+                .results(results)
+                .successCount(saved.size())
+                .failureCount(results.size() - saved.size())
+                .build();
+    }
+
+    public List<ProjectDTO.FileResponse> getFiles(Long projectId, Long userId) {
+        ownershipGuard.checkProject(projectId, userId);
+        return projectFileRepository.findByProjectIdOrderByIdAsc(projectId).stream()
+                .map(projectFile -> toDTO(projectFile, false))
+                .collect(Collectors.toList());
+    }
+
+    public ProjectDTO.FileResponse getFile(Long projectId, Long userId, Long fileId) {
+        ownershipGuard.checkProject(projectId, userId);
+        return projectFileRepository.findByIdAndProjectId(fileId, projectId)
+                .map(projectFile -> toDTO(projectFile, false))
+                .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다."));
+    }
+
+    // [start, end] 구간을 저장소에서 바로 스트리밍 (S3면 Range GET)
+    public void writeTo(ProjectDTO.FileResponse file, long start, long end, OutputStream out) throws IOException {
+        if (end < start) {
+            return;
+        }
+        try (InputStream in = fileStorageService.open(file.getSha256(), start, end)) {
+            in.transferTo(out);
+        }
+    }
+
+    // 이미 저장된 blob(스트리밍 업로드)을 프로젝트 이미지로 등록
+    public ProjectDTO.FileResponse registerImage(Long projectId, StoredBlob blob, String filename, String contentType) {
+        ProjectFile projectFile = registerFile(projectId, blob, "IMAGE", filename, contentType);
+        imagePreprocessingService.preprocessAsync(blob.getSha256());
+        return toDTO(projectFile, blob.isDeduplicated());
+    }
+
+    public ProjectFile registerFile(Long projectId, StoredBlob blob, String kind, String filename, String contentType) {
+        return transactionTemplate.execute(status -> projectFileRepository.save(ProjectFile.builder()
+                .project(projectRepository.getReferenceById(projectId))
+                .kind(kind)
+                .originalFilename(filename)
+                .contentType(contentType)
+                .sha256(blob.getSha256())
+                .size(blob.getSize())
+                .build()));
+    }
+
+    public void validateImageType(String contentType) {
+        String type = contentType != null ? contentType.toLowerCase(Locale.ROOT) : "";
+        if (!IMAGE_TYPES.contains(type)) {
+            throw new RuntimeException("지원하지 않는 이미지 형식입니다: " + type);
+        }
+    }
+
+    // Content-Type만 믿지 않고 파일 앞부분의 시그니처를 확인
+    public void validateImageSignature(byte[] head) {
+        if (!hasImageSignature(head, head.length)) {
+            throw new RuntimeException("이미지 파일이 아닙니다.");
+        }
+    }
+
+    private StoredBlob storeImage(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new RuntimeException("빈 파일입니다.");
+        }
+        validateImageType(file.getContentType());
+
+        byte[] head = new byte[12];
+        int read;
+        try (InputStream in = file.getInputStream()) {
+            read = in.readNBytes(head, 0, head.length);
+        } catch (IOException e) {
+            throw new RuntimeException("파일을 읽을 수 없습니다.", e);
+        }
+        if (!hasImageSignature(head, read)) {
+            throw new RuntimeException("이미지 파일이 아닙니다.");
+        }
+        return fileStorageService.storeFile(file);
+    }
+
+    private boolean hasImageSignature(byte[] head, int read) {
+        return startsWith(head, read, 0xFF, 0xD8, 0xFF)                       // JPEG
+                || startsWith(head, read, 0x89, 'P', 'N', 'G')                // PNG
+                || startsWith(head, read, 'G', 'I', 'F', '8')                 // GIF
+                || startsWith(head, read, 'I', 'I', 0x2A, 0x00)               // TIFF (little endian)
+                || startsWith(head, read, 'M', 'M', 0x00, 0x2A)               // TIFF (big endian)
+                || startsWith(head, read, 'B', 'M')                           // BMP
+                || (startsWith(head, read, 'R', 'I', 'F', 'F') && read >= 12
+                        && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P');
+    }
+
+    private boolean startsWith(byte[] head, int read, int... signature) {
+        if (read < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((head[i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String filename(MultipartFile file) {
+        String name = file != null ? file.getOriginalFilename() : null;
+        return name != null && !name.isBlank() ? name : "unnamed";
+    }
+
+    public ProjectDTO.FileResponse toDTO(ProjectFile projectFile, boolean deduplicated) {
+        return ProjectDTO.FileResponse.builder()
+                .id(projectFile.getId())
+                .kind(projectFile.getKind())
+                .originalFilename(projectFile.getOriginalFilename())
+                .contentType(projectFile.getContentType())
+                .sha256(projectFile.getSha256())
+                .size(projectFile.getSize())
+                .deduplicated(deduplicated)
+                .createdAt(projectFile.getCreatedAt())
+                .build();
+    }
+}
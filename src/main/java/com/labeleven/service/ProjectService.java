@@ -2,10 +2,15 @@ package com.labeleven.service;
 
 import com.labeleven.dto.ProjectDTO;
 import com.labeleven.entity.Project;
+import com.labeleven.entity.ProjectFile;
 import com.labeleven.entity.User;
+import com.labeleven.repository.ProjectFileRepository;
 import com.labeleven.repository.ProjectRepository;
 import com.labeleven.repository.UserRepository;
+import com.labeleven.security.OwnershipGuard;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -19,75 +24,118 @@ public class ProjectService {
     
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final ProjectFileRepository projectFileRepository;
     private final FileStorageService fileStorageService;
+    private final OwnershipGuard ownershipGuard;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
-    public ProjectDTO.Response createProject(String email, ProjectDTO.CreateRequest request, MultipartFile file) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    public ProjectDTO.Response createProject(Long userId, ProjectDTO.CreateRequest request, MultipartFile file) {
+        Project savedProject = saveProject(userId, request);
         
-        Project project = Project.builder()
-                .title(request.getTitle())
-                .country(request.getCountry())
-                .status("PROCESSING")
-                .user(user)
-                .build();
-        
-        Project savedProject = projectRepository.save(project);
-        
-        // 파일 업로드 처리
+        // 파일 업로드 처리 (커밋 후 LabelDataImporter가 라벨 데이터로 가져옴)
         if (file != null && !file.isEmpty()) {
-            fileStorageService.storeFile(file, savedProject.getId());
+            StoredBlob blob = fileStorageService.storeFile(file);
+            attachSpec(savedProject, blob, file.getOriginalFilename(), file.getContentType());
         }
         
         return convertToDTO(savedProject);
     }
     
+    // 스트리밍 업로드로 이미 저장된 명세 파일로 프로젝트 생성
+    @Transactional
+    public ProjectDTO.Response createProject(Long userId, ProjectDTO.CreateRequest request,
+                                             StoredBlob spec, String filename, String contentType) {
+        Project savedProject = saveProject(userId, request);
+        attachSpec(savedProject, spec, filename, contentType);
+        
+        return convertToDTO(savedProject);
+    }
+    
+    // 본문을 받기 전에 확인할 수 있는 항목 검증
+    public void validateCreateRequest(ProjectDTO.CreateRequest request, String specFilename) {
+        if (request.getTitle() == null || request.getTitle().isBlank()) {
+            throw new RuntimeException("프로젝트 제목을 입력해주세요.");
+        }
+        if (request.getCountry() == null || request.getCountry().isBlank()) {
+            throw new RuntimeException("국가 코드를 입력해주세요.");
+        }
+        if (!LabelSheetReader.isSupported(specFilename)) {
+            throw new RuntimeException("xlsx 또는 csv 파일만 가져올 수 있습니다.");
+        }
+    }
+    
     @Transactional(readOnly = true)
-    public ProjectDTO.ListResponse getUserProjects(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    public ProjectDTO.ListResponse getUserProjects(Long userId, String cursor, Integer size) {
+        int pageSize = KeysetCursor.pageSize(size, KeysetCursor.DEFAULT_PAGE_SIZE, KeysetCursor.MAX_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decode(cursor);
         
-        List<Project> projects = projectRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+        // 다음 페이지 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<Project> rows = after == null
+                ? projectRepository.findPageByUserId(userId, limit)
+                : projectRepository.findPageByUserIdAfter(userId, after.createdAt, after.id, limit);
+        List<Project> projects = KeysetCursor.page(rows, pageSize);
+        boolean hasNext = rows.size() > pageSize;
         
         List<ProjectDTO.Response> projectDTOs = projects.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
         
+        Project last = projects.isEmpty() ? null : projects.get(projects.size() - 1);
         return ProjectDTO.ListResponse.builder()
                 .projects(projectDTOs)
-                .totalCount(projectDTOs.size())
+                .nextCursor(hasNext ? KeysetCursor.encode(last.getCreatedAt(), last.getId()) : null)
+                .hasNext(hasNext)
                 .build();
     }
     
     @Transactional(readOnly = true)
-    public ProjectDTO.Response getProject(Long projectId, String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("프로젝트를 찾을 수 없습니다."));
-        
-        if (!project.getUser().getId().equals(user.getId())) {
-            throw new RuntimeException("접근 권한이 없습니다.");
-        }
+    public long countUserProjects(Long userId) {
+        return projectRepository.countByUserId(userId);
+    }
+    
+    @Transactional(readOnly = true)
+    public ProjectDTO.Response getProject(Long projectId, Long userId) {
+        Project project = ownershipGuard.getProject(projectId, userId);
         
         return convertToDTO(project);
     }
     
     @Transactional
-    public void deleteProject(Long projectId, String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    public void deleteProject(Long projectId, Long userId) {
+        Project project = ownershipGuard.getProject(projectId, userId);
         
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("프로젝트를 찾을 수 없습니다."));
+        projectRepository.delete(project);
+    }
+    
+    private Project saveProject(Long userId, ProjectDTO.CreateRequest request) {
+        // 토큰의 사용자 id로 참조만 연결 (users 조회 없음)
+        User user = userRepository.getReferenceById(userId);
         
-        if (!project.getUser().getId().equals(user.getId())) {
-            throw new RuntimeException("접근 권한이 없습니다.");
-        }
+        Project project = Project.builder()
+                .title(request.getTitle())
+                .country(request.getCountry())
+                .status("PROCESSING")
+                .user(user)
+                .build();
         
-        projectRepository.delete(project);
+        return projectRepository.save(project);
+    }
+    
+    private void attachSpec(Project project, StoredBlob blob, String filename, String contentType) {
+        projectFileRepository.save(ProjectFile.builder()
+                .project(project)
+                .kind("SPEC")
+                .originalFilename(filename != null ? filename : blob.getSha256())
+                .contentType(contentType)
+                .sha256(blob.getSha256())
+                .size(blob.getSize())
+                .build());
+        eventPublisher.publishEvent(new LabelDataImportEvent(
+                project.getId(),
+                blob.getSha256(),
+                filename));
     }
     
     private ProjectDTO.Response convertToDTO(Project project) {
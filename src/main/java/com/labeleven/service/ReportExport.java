@@ -0,0 +1,43 @@
+package com.labeleven.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+// 보고서 내보내기 한 건: 요청 스레드에서 권한 확인 후 만든 스냅샷과 캐시 파일 위치
+@Getter
+@Builder
+public class ReportExport {
+
+    private final Long reportId;
+    private final Long projectId;
+    private final Long pipelineId; // 실행 이력이 없으면 null
+    private final String pipelineStatus;
+    private final String projectTitle;
+    private final String country;
+    private final String reportType;
+    private final String status;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final ReportExporter.Format format;
+    private final Path cacheFile;
+    // prepare 시점에 캐시 파일이 있으면 연 채널 (응답 길이와 전송 내용이 같은 파일 기준이 되도록, 이후 정리로 지워져도 읽힘)
+    private final FileChannel cached;
+
+    public String getFilename() {
+        return "report-" + reportId + "." + format.getExtension();
+    }
+
+    public boolean isCached() {
+        return cached != null;
+    }
+
+    public long getCachedSize() throws IOException {
+        return cached.size();
+    }
+}
@@ -0,0 +1,230 @@
+package com.labeleven.service;
+
+import com.labeleven.entity.Pipeline;
+import com.labeleven.entity.Report;
+import com.labeleven.repository.LabelDataRepository;
+import com.labeleven.repository.PipelineRepository;
+import com.labeleven.security.OwnershipGuard;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Locale;
+import java.util.UUID;
+
+// 보고서 PDF/XLSX 다운로드. 렌더링 결과는 보고서/최신 파이프라인/프로젝트/라벨 데이터 버전별로 디스크에 캐시해
+// 같은 버전을 다시 받으면 렌더링 없이 파일만 전송
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportExporter {
+
+    private final ReportRenderer reportRenderer;
+    private final PipelineRepository pipelineRepository;
+    private final LabelDataRepository labelDataRepository;
+    private final OwnershipGuard ownershipGuard;
+
+    @Value("${report.cache-dir:uploads/reports}")
+    private String cacheDir;
+
+    private Path cacheRoot;
+
+    @Getter
+    public enum Format {
+        PDF("application/pdf", "pdf"),
+        XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Format from(String value) {
+            String format = value != null ? value.toUpperCase(Locale.ROOT) : "";
+            if (format.equals("EXCEL")) {
+                return XLSX;
+            }
+            try {
+                return valueOf(format);
+            } catch (Exception e) {
+                throw new RuntimeException("지원하지 않는 다운로드 형식입니다: " + value);
+            }
+        }
+    }
+
+    // 이전 실행에서 남은 렌더링 중간 파일 정리
+    @PostConstruct
+    protected void init() throws IOException {
+        cacheRoot = Paths.get(cacheDir).toAbsolutePath();
+        Files.createDirectories(cacheRoot);
+        try (DirectoryStream<Path> temps = Files.newDirectoryStream(cacheRoot, "*.tmp")) {
+            for (Path temp : temps) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    // 응답 스트리밍 전에 요청 스레드에서 권한 확인과 캐시 키 계산
+    @Transactional(readOnly = true)
+    public ReportExport prepare(Long reportId, Long userId, Format format) {
+        Report report = ownershipGuard.getReport(reportId, userId);
+        Pipeline pipeline = pipelineRepository.findFirstByReportIdOrderByCreatedAtDesc(reportId).orElse(null);
+
+        // 렌더링에 들어가는 프로젝트 정보와 라벨 데이터(건수, 마지막 수정 시각)도 키에 포함
+        Long projectId = report.getProject().getId();
+        String version = millis(report.getUpdatedAt()) + "-"
+                + (pipeline != null ? pipeline.getId() + "-" + millis(pipeline.getUpdatedAt()) : "0-0") + "-"
+                + millis(report.getProject().getUpdatedAt()) + "-"
+                + labelDataRepository.countByProjectId(projectId) + "-"
+                + millis(labelDataRepository.findLastUpdatedAt(projectId));
+        Path cacheFile = cacheRoot.resolve(cachePrefix(reportId) + version + "." + format.getExtension());
+        return ReportExport.builder()
+                .reportId(report.getId())
+                .projectId(projectId)
+                .pipelineId(pipeline != null ? pipeline.getId() : null)
+                .pipelineStatus(pipeline != null ? pipeline.getStatus() : null)
+                .projectTitle(report.getProject().getTitle())
+                .country(report.getProject().getCountry())
+                .reportType(report.getReportType())
+                .status(report.getStatus())
+                .content(report.getContent())
+                .createdAt(report.getCreatedAt())
+                .updatedAt(report.getUpdatedAt())
+                .format(format)
+                .cacheFile(cacheFile)
+                .cached(openCached(cacheFile))
+                .build();
+    }
+
+    // 캐시 파일이 없거나 열 수 없으면 null (다시 렌더링)
+    private FileChannel openCached(Path cacheFile) {
+        try {
+            return FileChannel.open(cacheFile, StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("보고서 캐시 파일을 열 수 없습니다: {}", cacheFile, e);
+            return null;
+        }
+    }
+
+    // 캐시가 있으면 prepare에서 연 파일을 그대로 전송, 없으면 응답과 임시 파일에 함께 기록한 뒤 캐시로 이동
+    // 렌더링 중 실패하거나 클라이언트가 끊으면 임시 파일은 버림
+    public void write(ReportExport export, OutputStream out) throws IOException {
+        if (export.isCached()) {
+            try (InputStream in = Channels.newInputStream(export.getCached())) {
+                in.transferTo(out);
+            }
+            return;
+        }
+
+        Path temp = cacheRoot.resolve(UUID.randomUUID() + ".tmp");
+        try {
+            try (OutputStream file = new BufferedOutputStream(
+                    Files.newOutputStream(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE))) {
+                OutputStream tee = new TeeOutputStream(out, file);
+                if (export.getFormat() == Format.PDF) {
+                    reportRenderer.renderPdf(export, tee);
+                } else {
+                    reportRenderer.renderXlsx(export, tee);
+                }
+                tee.flush();
+            }
+            Files.move(temp, export.getCacheFile(), StandardCopyOption.ATOMIC_MOVE);
+            evictStale(export.getReportId(), export.getCacheFile());
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    // 보고서 삭제 시 캐시 파일도 삭제
+    public void evict(Long reportId) {
+        evictStale(reportId, null);
+    }
+
+    // 같은 보고서의 이전 버전 파일 삭제
+    private void evictStale(Long reportId, Path current) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheRoot, cachePrefix(reportId) + "*")) {
+            for (Path file : files) {
+                if (!file.equals(current)) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("보고서 캐시 정리 실패: reportId={}", reportId, e);
+        }
+    }
+
+    private String cachePrefix(Long reportId) {
+        return "report-" + reportId + "-";
+    }
+
+    private long millis(LocalDateTime time) {
+        return time != null ? time.toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("보고서 캐시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    // 응답과 캐시 파일에 동시에 기록. 응답 스트림은 컨테이너가 닫으므로 close 시 flush만 함
+    private static class TeeOutputStream extends OutputStream {
+
+        private final OutputStream first;
+        private final OutputStream second;
+
+        private TeeOutputStream(OutputStream first, OutputStream second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            first.write(b);
+            second.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            first.write(b, off, len);
+            second.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            first.flush();
+            second.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.labeleven.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fontbox.ttf.TTFParser;
+import org.apache.fontbox.ttf.TrueTypeFont;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// PDF 보고서용 한글 폰트. TTF는 처음 한 번만 파싱해 모든 문서가 공유하고(메모리에 올려 두어 동시 사용 가능),
+// 문서에는 실제로 쓴 글자만 서브셋으로 포함
+@Slf4j
+@Component
+public class ReportFonts {
+
+    @Value("${report.pdf.font-path:}")
+    private String fontPath;
+
+    private volatile boolean loaded;
+    private TrueTypeFont font;
+
+    // 폰트 파일이 없으면 기본 폰트(Helvetica)로 대체 (한글은 '?'로 출력)
+    public PDFont load(PDDocument document) throws IOException {
+        TrueTypeFont ttf = font();
+        return ttf != null ? PDType0Font.load(document, ttf, true) : PDType1Font.HELVETICA;
+    }
+
+    // 폰트에 없는 글자는 '?'로, 제어 문자는 공백으로 바꿈 (없는 글리프를 쓰면 PDFBox가 예외를 던짐)
+    public String printable(PDFont pdFont, String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String cleaned = text.replaceAll("\\p{Cntrl}", " ");
+        try {
+            pdFont.encode(cleaned);
+            return cleaned;
+        } catch (IllegalArgumentException | IOException e) {
+            StringBuilder builder = new StringBuilder(cleaned.length());
+            cleaned.codePoints().forEach(codePoint -> {
+                String character = new String(Character.toChars(codePoint));
+                try {
+                    pdFont.encode(character);
+                    builder.append(character);
+                } catch (IllegalArgumentException | IOException unsupported) {
+                    builder.append('?');
+                }
+            });
+            return builder.toString();
+        }
+    }
+
+    private TrueTypeFont font() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    font = parse();
+                    loaded = true;
+                }
+            }
+        }
+        return font;
+    }
+
+    private TrueTypeFont parse() {
+        if (fontPath == null || fontPath.isBlank()) {
+            log.warn("보고서 PDF 폰트가 설정되지 않아 기본 폰트를 사용합니다. (report.pdf.font-path)");
+            return null;
+        }
+        Path path = Paths.get(fontPath);
+        try {
+            TrueTypeFont ttf = new TTFParser().parse(new ByteArrayInputStream(Files.readAllBytes(path)));
+            log.info("보고서 PDF 폰트 로딩: {}", path);
+            return ttf;
+        } catch (IOException e) {
+            log.warn("보고서 PDF 폰트를 읽을 수 없어 기본 폰트를 사용합니다: {}", path, e);
+            return null;
+        }
+    }
+}
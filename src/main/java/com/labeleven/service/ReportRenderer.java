@@ -0,0 +1,329 @@
+package com.labeleven.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.labeleven.entity.LabelData;
+import com.labeleven.repository.LabelDataRepository;
+import com.labeleven.repository.PipelineResultRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+// 보고서와 최신 파이프라인 결과를 PDF/XLSX로 렌더링
+// 라벨 데이터는 커서로 읽어 바로 기록하므로 라벨 수와 무관하게 메모리 사용이 일정함
+//   XLSX: SXSSF 행 창(row-window)만 메모리에 두고 나머지는 임시 파일로 내림
+//   PDF: 완성된 페이지의 내용 스트림은 바로 닫아 스크래치 파일로 내림
+@Component
+@RequiredArgsConstructor
+public class ReportRenderer {
+
+    private static final int MAX_CELL_LENGTH = 32_767; // 엑셀 셀 최대 글자 수
+    private static final int LABEL_CHUNK_SIZE = 500;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final PipelineResultRepository pipelineResultRepository;
+    private final LabelDataRepository labelDataRepository;
+    private final ReportFonts reportFonts;
+    private final ObjectMapper objectMapper;
+
+    @Value("${report.xlsx.row-window:100}")
+    private int rowWindow;
+
+    public void renderXlsx(ReportExport export, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(rowWindow);
+        workbook.setCompressTempFiles(true);
+        try {
+            CellStyle headerStyle = workbook.createCellStyle();
+            Font bold = workbook.createFont();
+            bold.setBold(true);
+            headerStyle.setFont(bold);
+
+            Sheet summary = workbook.createSheet("요약");
+            int rowIndex = 0;
+            for (Map.Entry<String, String> entry : summary(export).entrySet()) {
+                Row row = summary.createRow(rowIndex++);
+                setCell(row, 0, entry.getKey()).setCellStyle(headerStyle);
+                setCell(row, 1, entry.getValue());
+            }
+
+            Sheet labels = workbook.createSheet("라벨 데이터");
+            Row header = labels.createRow(0);
+            String[] columns = {"ID", "항목", "원문", "번역", "분류"};
+            for (int i = 0; i < columns.length; i++) {
+                setCell(header, i, columns[i]).setCellStyle(headerStyle);
+            }
+            int[] labelRow = {1};
+            forEachLabel(export, labelData -> {
+                Row row = labels.createRow(labelRow[0]++);
+                row.createCell(0).setCellValue(labelData.getId());
+                setCell(row, 1, labelData.getFieldName());
+                setCell(row, 2, labelData.getOriginalValue());
+                setCell(row, 3, labelData.getTranslatedValue());
+                setCell(row, 4, labelData.getCategory());
+            });
+
+            // 단계 결과 JSON은 경로/값 행으로 펼침
+            for (Map.Entry<PipelineStage, String> result : results(export).entrySet()) {
+                Sheet sheet = workbook.createSheet(result.getKey().getStepName());
+                Row resultHeader = sheet.createRow(0);
+                setCell(resultHeader, 0, "경로").setCellStyle(headerStyle);
+                setCell(resultHeader, 1, "값").setCellStyle(headerStyle);
+                int[] resultRow = {1};
+                flatten(result.getValue(), (path, value) -> {
+                    Row row = sheet.createRow(resultRow[0]++);
+                    setCell(row, 0, path);
+                    setCell(row, 1, value);
+                });
+            }
+
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    public void renderPdf(ReportExport export, OutputStream out) throws IOException {
+        try (PDDocument document = new PDDocument(MemoryUsageSetting.setupTempFileOnly())) {
+            PdfTextWriter writer = new PdfTextWriter(document, reportFonts.load(document));
+            writer.heading("보고서 #" + export.getReportId());
+            for (Map.Entry<String, String> entry : summary(export).entrySet()) {
+                writer.line(entry.getKey() + ": " + entry.getValue());
+            }
+            if (export.getContent() != null && !export.getContent().isBlank()) {
+                writer.heading("내용");
+                writer.paragraph(export.getContent());
+            }
+
+            writer.heading("라벨 데이터");
+            forEachLabel(export, labelData -> writer.line("[" + nullToEmpty(labelData.getCategory()) + "] "
+                    + nullToEmpty(labelData.getFieldName()) + ": " + nullToEmpty(labelData.getOriginalValue())
+                    + (labelData.getTranslatedValue() != null ? " → " + labelData.getTranslatedValue() : "")));
+
+            for (Map.Entry<PipelineStage, String> result : results(export).entrySet()) {
+                writer.heading(result.getKey().getStepName());
+                flatten(result.getValue(), (path, value) -> writer.line(path.isEmpty() ? value : path + ": " + value));
+            }
+
+            writer.finish();
+            // PDFBox는 저장 후 출력 스트림을 닫으므로 응답 스트림은 닫히지 않게 감쌈
+            document.save(new FilterOutputStream(out) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    out.flush();
+                }
+            });
+        }
+    }
+
+    private Map<String, String> summary(ReportExport export) {
+        Map<String, String> summary = new LinkedHashMap<>();
+        summary.put("보고서 ID", String.valueOf(export.getReportId()));
+        summary.put("프로젝트", nullToEmpty(export.getProjectTitle()));
+        summary.put("국가", nullToEmpty(export.getCountry()));
+        summary.put("보고서 유형", nullToEmpty(export.getReportType()));
+        summary.put("상태", nullToEmpty(export.getStatus()));
+        summary.put("생성 시각", export.getCreatedAt() != null ? DATE_TIME.format(export.getCreatedAt()) : "");
+        summary.put("수정 시각", export.getUpdatedAt() != null ? DATE_TIME.format(export.getUpdatedAt()) : "");
+        summary.put("파이프라인", export.getPipelineId() != null
+                ? "#" + export.getPipelineId() + " (" + export.getPipelineStatus() + ")" : "실행 이력 없음");
+        return summary;
+    }
+
+    private Map<PipelineStage, String> results(ReportExport export) {
+        if (export.getPipelineId() == null) {
+            return Map.of();
+        }
+        return pipelineResultRepository.findResults(export.getPipelineId(), EnumSet.allOf(PipelineStage.class));
+    }
+
+    // 키셋 청크 단위로 조회 (청크마다 짧은 읽기 트랜잭션이라 렌더링/전송 중 커넥션을 붙잡지 않음)
+    private void forEachLabel(ReportExport export, IoConsumer<LabelData> consumer) throws IOException {
+        PageRequest chunkSize = PageRequest.ofSize(LABEL_CHUNK_SIZE);
+        Long lastId = null;
+        List<LabelData> chunk;
+        do {
+            chunk = labelDataRepository.findChunk(export.getProjectId(), lastId, chunkSize);
+            for (LabelData labelData : chunk) {
+                consumer.accept(labelData);
+                lastId = labelData.getId();
+            }
+        } while (chunk.size() == LABEL_CHUNK_SIZE);
+    }
+
+    // 객체는 a.b, 배열은 a[0] 형태의 경로로 말단 값만 나열 (JSON이 아니면 원문 한 줄)
+    private void flatten(String json, IoBiConsumer consumer) throws IOException {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(json);
+        } catch (Exception e) {
+            consumer.accept("", json);
+            return;
+        }
+        try {
+            flatten(root, "", (path, value) -> {
+                try {
+                    consumer.accept(path, value);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void flatten(JsonNode node, String path, BiConsumer<String, String> consumer) {
+        if (node.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                flatten(field.getValue(), path.isEmpty() ? field.getKey() : path + "." + field.getKey(), consumer);
+            }
+        } else if (node.isArray()) {
+            for (int i = 0; i < node.size(); i++) {
+                flatten(node.get(i), path + "[" + i + "]", consumer);
+            }
+        } else {
+            consumer.accept(path, node.isNull() ? "" : node.asText());
+        }
+    }
+
+    private Cell setCell(Row row, int column, String value) {
+        Cell cell = row.createCell(column);
+        String text = nullToEmpty(value);
+        cell.setCellValue(text.length() > MAX_CELL_LENGTH ? text.substring(0, MAX_CELL_LENGTH) : text);
+        return cell;
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private interface IoConsumer<T> {
+        void accept(T value) throws IOException;
+    }
+
+    private interface IoBiConsumer {
+        void accept(String path, String value) throws IOException;
+    }
+
+    // A4 세로, 자동 줄바꿈/페이지 넘김. 페이지를 넘길 때 이전 페이지 내용 스트림을 닫음
+    private class PdfTextWriter {
+
+        private static final float MARGIN = 50;
+        private static final float FONT_SIZE = 10;
+        private static final float HEADING_SIZE = 14;
+        private static final float LEADING = 1.4f;
+
+        private final PDDocument document;
+        private final PDFont font;
+        private final float width = PDRectangle.A4.getWidth() - MARGIN * 2;
+        private PDPageContentStream content;
+        private float y;
+
+        private PdfTextWriter(PDDocument document, PDFont font) throws IOException {
+            this.document = document;
+            this.font = font;
+            newPage();
+        }
+
+        void heading(String text) throws IOException {
+            if (y < PDRectangle.A4.getHeight() - MARGIN - FONT_SIZE) {
+                y -= FONT_SIZE; // 앞 내용과 간격
+            }
+            write(text, HEADING_SIZE);
+        }
+
+        void line(String text) throws IOException {
+            write(text, FONT_SIZE);
+        }
+
+        void paragraph(String text) throws IOException {
+            for (String line : text.split("\\R", -1)) {
+                write(line, FONT_SIZE);
+            }
+        }
+
+        void finish() throws IOException {
+            content.close();
+        }
+
+        private void write(String text, float size) throws IOException {
+            for (String line : wrap(reportFonts.printable(font, text), size)) {
+                if (y - size * LEADING < MARGIN) {
+                    newPage();
+                }
+                y -= size * LEADING;
+                content.beginText();
+                content.setFont(font, size);
+                content.newLineAtOffset(MARGIN, y);
+                content.showText(line);
+                content.endText();
+            }
+        }
+
+        // 폭을 넘기기 직전 글자에서 줄을 나눔
+        private List<String> wrap(String text, float size) throws IOException {
+            List<String> lines = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            float currentWidth = 0;
+            for (int i = 0; i < text.length(); ) {
+                int codePoint = text.codePointAt(i);
+                String character = new String(Character.toChars(codePoint));
+                float characterWidth = font.getStringWidth(character) / 1000 * size;
+                if (currentWidth + characterWidth > width && current.length() > 0) {
+                    lines.add(current.toString());
+                    current.setLength(0);
+                    currentWidth = 0;
+                }
+                current.append(character);
+                currentWidth += characterWidth;
+                i += Character.charCount(codePoint);
+            }
+            lines.add(current.toString());
+            return lines;
+        }
+
+        private void newPage() throws IOException {
+            if (content != null) {
+                content.close();
+            }
+            PDPage page = new PDPage(PDRectangle.A4);
+            document.addPage(page);
+            content = new PDPageContentStream(document, page);
+            y = PDRectangle.A4.getHeight() - MARGIN;
+        }
+    }
+}
@@ -4,8 +4,10 @@ import com.labeleven.dto.ReportDTO;
 import com.labeleven.entity.Report;
 import com.labeleven.entity.Project;
 import com.labeleven.repository.ReportRepository;
-import com.labeleven.repository.ProjectRepository;
+import com.labeleven.security.OwnershipGuard;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,19 +20,17 @@ import java.util.stream.Collectors;
 public class ReportService {
     
     private final ReportRepository reportRepository;
-    private final ProjectRepository projectRepository;
+    private final OwnershipGuard ownershipGuard;
+    private final ReportExporter reportExporter;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
-    public ReportDTO.Response createReport(String userEmail, ReportDTO.CreateRequest request) {
-        Project project = projectRepository.findById(request.getProjectId())
-                .orElseThrow(() -> new RuntimeException("프로젝트를 찾을 수 없습니다."));
-        
-        if (!project.getUser().getEmail().equals(userEmail)) {
-            throw new RuntimeException("권한이 없습니다.");
-        }
+    public ReportDTO.Response createReport(Long userId, ReportDTO.CreateRequest request) {
+        Project project = ownershipGuard.getProject(request.getProjectId(), userId);
         
         Report report = Report.builder()
                 .project(project)
+                .userId(userId)
                 .reportType(request.getReportType())
                 .status("PENDING")
                 .progress(0)
@@ -42,42 +42,22 @@ public class ReportService {
     }
     
     @Transactional(readOnly = true)
-    public ReportDTO.StatusResponse getReportStatus(Long reportId, String userEmail) {
-        Report report = reportRepository.findById(reportId)
-                .orElseThrow(() -> new RuntimeException("보고서를 찾을 수 없습니다."));
-        
-        if (!report.getProject().getUser().getEmail().equals(userEmail)) {
-            throw new RuntimeException("권한이 없습니다.");
-        }
+    public ReportDTO.StatusResponse getReportStatus(Long reportId, Long userId) {
+        Report report = ownershipGuard.getReport(reportId, userId);
         
-        return ReportDTO.StatusResponse.builder()
-                .reportId(report.getId())
-                .status(report.getStatus())
-                .progress(report.getProgress())
-                .currentStep(report.getCurrentStep())
-                .build();
+        return convertToStatusResponse(report);
     }
     
     @Transactional(readOnly = true)
-    public ReportDTO.Response getReport(Long reportId, String userEmail) {
-        Report report = reportRepository.findById(reportId)
-                .orElseThrow(() -> new RuntimeException("보고서를 찾을 수 없습니다."));
-        
-        if (!report.getProject().getUser().getEmail().equals(userEmail)) {
-            throw new RuntimeException("권한이 없습니다.");
-        }
+    public ReportDTO.Response getReport(Long reportId, Long userId) {
+        Report report = ownershipGuard.getReport(reportId, userId);
         
         return convertToResponse(report);
     }
     
     @Transactional
-    public ReportDTO.Response approveReport(String userEmail, ReportDTO.ApprovalRequest request) {
-        Report report = reportRepository.findById(request.getReportId())
-                .orElseThrow(() -> new RuntimeException("보고서를 찾을 수 없습니다."));
-        
-        if (!report.getProject().getUser().getEmail().equals(userEmail)) {
-            throw new RuntimeException("권한이 없습니다.");
-        }
+    public ReportDTO.Response approveReport(Long userId, ReportDTO.ApprovalRequest request) {
+        Report report = ownershipGuard.getReport(request.getReportId(), userId);
         
         // ⭐ 중요: 승인 상태 변경
         if (request.isApproved()) {
@@ -91,40 +71,58 @@ public class ReportService {
         
         report = reportRepository.save(report);
         
+        eventPublisher.publishEvent(new ReportStatusEvent(convertToStatusResponse(report)));
+        
         return convertToResponse(report);
     }
     
     @Transactional(readOnly = true)
-    public ReportDTO.ListResponse getUserReports(String userEmail, String reportType) {
-        List<Report> reports;
-        
-        if (reportType != null && !reportType.isEmpty()) {
-            reports = reportRepository.findByProjectUserEmailAndReportTypeOrderByCreatedAtDesc(
-                    userEmail, reportType);
+    public ReportDTO.ListResponse getUserReports(Long userId, String reportType, String cursor, Integer size) {
+        int pageSize = KeysetCursor.pageSize(size, KeysetCursor.DEFAULT_PAGE_SIZE, KeysetCursor.MAX_PAGE_SIZE);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        String type = reportType != null && !reportType.isEmpty() ? reportType : null;
+        
+        // 다음 페이지 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<Report> rows;
+        if (type == null) {
+            rows = after == null
+                    ? reportRepository.findPageByUserId(userId, limit)
+                    : reportRepository.findPageByUserIdAfter(userId, after.createdAt, after.id, limit);
         } else {
-            reports = reportRepository.findByProjectUserEmailOrderByCreatedAtDesc(userEmail);
+            rows = after == null
+                    ? reportRepository.findPageByUserIdAndType(userId, type, limit)
+                    : reportRepository.findPageByUserIdAndTypeAfter(userId, type, after.createdAt, after.id, limit);
         }
+        List<Report> reports = KeysetCursor.page(rows, pageSize);
+        boolean hasNext = rows.size() > pageSize;
         
         List<ReportDTO.Response> reportList = reports.stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
         
+        Report last = reports.isEmpty() ? null : reports.get(reports.size() - 1);
         return ReportDTO.ListResponse.builder()
                 .reports(reportList)
-                .total((int) reportList.size())
+                .nextCursor(hasNext ? KeysetCursor.encode(last.getCreatedAt(), last.getId()) : null)
+                .hasNext(hasNext)
                 .build();
     }
     
+    @Transactional(readOnly = true)
+    public long countUserReports(Long userId, String reportType) {
+        String type = reportType != null && !reportType.isEmpty() ? reportType : null;
+        return type == null
+                ? reportRepository.countByUserId(userId)
+                : reportRepository.countByUserIdAndType(userId, type);
+    }
+    
     @Transactional
-    public void deleteReport(Long reportId, String userEmail) {
-        Report report = reportRepository.findById(reportId)
-                .orElseThrow(() -> new RuntimeException("보고서를 찾을 수 없습니다."));
-        
-        if (!report.getProject().getUser().getEmail().equals(userEmail)) {
-            throw new RuntimeException("권한이 없습니다.");
-        }
+    public void deleteReport(Long reportId, Long userId) {
+        Report report = ownershipGuard.getReport(reportId, userId);
         
         reportRepository.delete(report);
+        reportExporter.evict(reportId);
     }
     
     private ReportDTO.Response convertToResponse(Report report) {
@@ -142,4 +140,13 @@ public class ReportService {
                 .updatedAt(report.getUpdatedAt())
                 .build();
     }
+    
+    private ReportDTO.StatusResponse convertToStatusResponse(Report report) {
+        return ReportDTO.StatusResponse.builder()
+                .reportId(report.getId())
+                .status(report.getStatus())
+                .progress(report.getProgress())
+                .currentStep(report.getCurrentStep())
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.labeleven.service;
+
+import com.labeleven.dto.ReportDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 보고서 상태 변경 시 발행 (커밋 후 SSE로 전송)
+@Getter
+@RequiredArgsConstructor
+public class ReportStatusEvent {
+
+    private final ReportDTO.StatusResponse status;
+}
@@ -0,0 +1,266 @@
+package com.labeleven.service;
+
+import com.labeleven.dto.ProjectDTO;
+import com.labeleven.entity.ProjectFile;
+import com.labeleven.entity.UploadSession;
+import com.labeleven.repository.ProjectFileRepository;
+import com.labeleven.repository.ProjectRepository;
+import com.labeleven.repository.UploadSessionRepository;
+import com.labeleven.security.OwnershipGuard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 이어받기 가능한 청크 업로드 (init → 위치 지정 청크 PUT → 위치 조회 → complete)
+// 청크는 임시 파일의 해당 위치에 직접 기록하고, 완료 시 파일을 그대로 blob으로 이동
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumableUploadService {
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectFileRepository projectFileRepository;
+    private final ProjectFileService projectFileService;
+    private final FileStorageService fileStorageService;
+    private final OwnershipGuard ownershipGuard;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${storage.resumable.max-file-size:5GB}")
+    private DataSize maxFileSize;
+
+    @Value("${storage.resumable.max-chunk-size:16MB}")
+    private DataSize maxChunkSize;
+
+    @Value("${storage.resumable.expire-after:24h}")
+    private Duration expireAfter;
+
+    // 해시 기록 전에 멈춘 완료 처리를 다시 시도할 수 있게 되는 시간
+    @Value("${storage.resumable.completing-timeout:10m}")
+    private Duration completingTimeout;
+
+    public ProjectDTO.UploadSessionResponse init(Long projectId, Long userId, ProjectDTO.UploadInitRequest request) {
+        ownershipGuard.checkProject(projectId, userId);
+        if (request.getFilename() == null || request.getFilename().isBlank()) {
+            throw new RuntimeException("파일명을 입력해주세요.");
+        }
+        if (request.getTotalSize() == null || request.getTotalSize() <= 0) {
+            throw new RuntimeException("파일 크기를 입력해주세요.");
+        }
+        if (request.getTotalSize() > maxFileSize.toBytes()) {
+            throw new RuntimeException("파일 크기 제한을 초과했습니다.");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        try {
+            Files.createFile(fileStorageService.partialPath(uploadId));
+        } catch (IOException e) {
+            throw new RuntimeException("업로드를 시작할 수 없습니다.", e);
+        }
+
+        UploadSession session = uploadSessionRepository.save(UploadSession.builder()
+                .id(uploadId)
+                .project(projectRepository.getReferenceById(projectId))
+                .filename(request.getFilename())
+                .contentType(request.getContentType())
+                .totalSize(request.getTotalSize())
+                .receivedBytes(0L)
+                .status("UPLOADING")
+                .build());
+        return toResponse(session, null);
+    }
+
+    public ProjectDTO.UploadSessionResponse getStatus(Long projectId, Long userId, String uploadId) {
+        UploadSession session = getSession(projectId, userId, uploadId);
+        return toResponse(session, completedFile(session));
+    }
+
+    // offset은 현재 위치 이하만 허용 (이미 받은 구간을 다시 보내는 재시도는 덮어쓰기로 처리)
+    // 연결이 끊겨도 기록된 만큼은 위치를 전진시켜 다음 재시도는 남은 바이트만 보내면 됨
+    public ProjectDTO.UploadSessionResponse writeChunk(Long projectId, Long userId, String uploadId,
+                                                       long offset, InputStream body) {
+        UploadSession session = getSession(projectId, userId, uploadId);
+        if (!"UPLOADING".equals(session.getStatus())) {
+            throw new RuntimeException("이미 완료된 업로드입니다.");
+        }
+        if (offset < 0 || offset > session.getReceivedBytes()) {
+            throw new RuntimeException("업로드 위치가 맞지 않습니다. 현재 위치: " + session.getReceivedBytes());
+        }
+
+        long limit = Math.min(maxChunkSize.toBytes(), session.getTotalSize() - offset);
+        long written = 0;
+        boolean overflow = false;
+        Path partial = fileStorageService.partialPath(uploadId);
+        try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.WRITE);
+             ReadableByteChannel source = Channels.newChannel(body)) {
+            try {
+                long transferred;
+                while (written < limit
+                        && (transferred = channel.transferFrom(source, offset + written, limit - written)) > 0) {
+                    written += transferred;
+                }
+                overflow = written == limit && body.read() != -1;
+            } finally {
+                // 위치를 기록하기 전에 디스크에 반영 (재시작 후 빈 구간이 생기지 않도록)
+                channel.force(false);
+                if (written > 0) {
+                    uploadSessionRepository.advance(uploadId, offset, offset + written, LocalDateTime.now());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("청크 수신 중단: uploadId={}, offset={}, written={}", uploadId, offset, written);
+            throw new RuntimeException("청크 수신이 중단되었습니다. 현재 위치부터 다시 전송해주세요.", e);
+        }
+
+        if (overflow) {
+            throw new RuntimeException("청크가 허용 크기 또는 남은 파일 크기를 초과했습니다.");
+        }
+        return toResponse(uploadSessionRepository.findById(uploadId).orElseThrow(), null);
+    }
+
+    // 모든 바이트를 받은 뒤 한 번만 blob으로 이동해 프로젝트 파일로 등록 (재호출 시 등록된 결과 반환)
+    // 임시 파일의 해시를 세션에 먼저 기록한 뒤 이동하므로, 이동/등록 중 실패하거나 노드가 멈춰도
+    // 다시 호출하면 COMPLETING에서 이동(임시 파일이 남아 있으면) 또는 등록부터 이어감
+    public ProjectDTO.UploadSessionResponse complete(Long projectId, Long userId, String uploadId) {
+        UploadSession session = getSession(projectId, userId, uploadId);
+        if ("COMPLETED".equals(session.getStatus())) {
+            return toResponse(session, completedFile(session));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if ("COMPLETING".equals(session.getStatus()) && session.getBlobSha256() == null
+                && uploadSessionRepository.resetStaleCompleting(uploadId, now.minus(completingTimeout), now) > 0) {
+            session = uploadSessionRepository.findById(uploadId).orElseThrow();
+        }
+        if (!"COMPLETING".equals(session.getStatus())) {
+            recordHash(session);
+        }
+        boolean deduplicated = storeBlob(uploadId);
+
+        // 세션 행을 잠그고 등록과 완료 표시를 한 트랜잭션으로 처리 (동시에 재호출해도 한 번만 등록)
+        return transactionTemplate.execute(status -> {
+            UploadSession locked = uploadSessionRepository.findByIdForUpdate(uploadId)
+                    .orElseThrow(() -> new RuntimeException("업로드 세션을 찾을 수 없습니다."));
+            if ("COMPLETED".equals(locked.getStatus())) {
+                return toResponse(locked, completedFile(locked));
+            }
+
+            StoredBlob blob = new StoredBlob(locked.getBlobSha256(), locked.getBlobSize(), deduplicated);
+            ProjectFile projectFile = projectFileService.registerFile(
+                    projectId, blob, "ARTWORK", locked.getFilename(), locked.getContentType());
+
+            locked.setStatus("COMPLETED");
+            locked.setProjectFileId(projectFile.getId());
+            locked.setUpdatedAt(LocalDateTime.now());
+            return toResponse(locked, projectFileService.toDTO(projectFile, blob.isDeduplicated()));
+        });
+    }
+
+    // UPLOADING → COMPLETING 후 임시 파일의 해시/크기를 세션에 기록. 실패하면 임시 파일은 그대로라 UPLOADING으로 되돌림
+    private void recordHash(UploadSession session) {
+        String uploadId = session.getId();
+        if (session.getReceivedBytes() < session.getTotalSize()) {
+            throw new RuntimeException("아직 받지 않은 구간이 있습니다. 현재 위치: " + session.getReceivedBytes());
+        }
+        if (uploadSessionRepository.transition(uploadId, "UPLOADING", "COMPLETING", LocalDateTime.now()) == 0) {
+            throw new RuntimeException("업로드를 완료하는 중입니다.");
+        }
+
+        try {
+            String sha256 = fileStorageService.hashFile(fileStorageService.partialPath(uploadId));
+            uploadSessionRepository.recordBlob(uploadId, sha256, session.getTotalSize(), LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("청크 업로드 해시 기록 실패: uploadId={}", uploadId, e);
+            uploadSessionRepository.transition(uploadId, "COMPLETING", "UPLOADING", LocalDateTime.now());
+            throw e;
+        }
+    }
+
+    // 기록된 해시로 임시 파일을 blob으로 옮김. 이미 옮겨졌으면(이전 시도) 그대로 사용. 같은 내용이 이미 있었으면 true
+    private boolean storeBlob(String uploadId) {
+        UploadSession session = uploadSessionRepository.findById(uploadId)
+                .orElseThrow(() -> new RuntimeException("업로드 세션을 찾을 수 없습니다."));
+        if (session.getBlobSha256() == null) {
+            throw new RuntimeException("업로드를 완료하는 중입니다.");
+        }
+
+        Path partial = fileStorageService.partialPath(uploadId);
+        if (Files.exists(partial)) {
+            try {
+                return fileStorageService.adopt(partial, session.getBlobSha256(), session.getBlobSize()).isDeduplicated();
+            } catch (RuntimeException e) {
+                log.error("청크 업로드 blob 이동 실패: uploadId={}", uploadId, e);
+                throw e;
+            }
+        }
+        if (!fileStorageService.exists(session.getBlobSha256())) {
+            throw new RuntimeException("업로드한 파일을 찾을 수 없습니다. 다시 업로드해주세요.");
+        }
+        return false;
+    }
+
+    public void abort(Long projectId, Long userId, String uploadId) {
+        UploadSession session = getSession(projectId, userId, uploadId);
+        uploadSessionRepository.delete(session);
+        fileStorageService.deleteQuietly(fileStorageService.partialPath(uploadId));
+    }
+
+    // 만료된 세션과 임시 파일 정리 (여러 노드가 동시에 실행해도 조건부 삭제라 안전)
+    @Scheduled(fixedDelayString = "${storage.resumable.cleanup-interval:PT1H}")
+    public void cleanupExpired() {
+        LocalDateTime before = LocalDateTime.now().minus(expireAfter);
+        int removed = 0;
+        for (String uploadId : uploadSessionRepository.findIdsUpdatedBefore(before)) {
+            if (uploadSessionRepository.deleteIfUpdatedBefore(uploadId, before) > 0) {
+                fileStorageService.deleteQuietly(fileStorageService.partialPath(uploadId));
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.info("만료된 청크 업로드 정리: {}건", removed);
+        }
+    }
+
+    private UploadSession getSession(Long projectId, Long userId, String uploadId) {
+        ownershipGuard.checkProject(projectId, userId);
+        return uploadSessionRepository.findByIdAndProjectId(uploadId, projectId)
+                .orElseThrow(() -> new RuntimeException("업로드 세션을 찾을 수 없습니다."));
+    }
+
+    private ProjectDTO.FileResponse completedFile(UploadSession session) {
+        if (session.getProjectFileId() == null) {
+            return null;
+        }
+        return projectFileRepository.findById(session.getProjectFileId())
+                .map(projectFile -> projectFileService.toDTO(projectFile, false))
+                .orElse(null);
+    }
+
+    private ProjectDTO.UploadSessionResponse toResponse(UploadSession session, ProjectDTO.FileResponse file) {
+        return ProjectDTO.UploadSessionResponse.builder()
+                .uploadId(session.getId())
+                .status(session.getStatus())
+                .offset(session.getReceivedBytes())
+                .totalSize(session.getTotalSize())
+                .maxChunkSize(maxChunkSize.toBytes())
+                .expiresAt(session.getUpdatedAt().plus(expireAfter))
+                .file(file)
+                .build();
+    }
+}
@@ -0,0 +1,245 @@
+package com.labeleven.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.labeleven.client.AiClientProperties;
+import com.labeleven.entity.StageOutput;
+import com.labeleven.repository.StageOutputRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+// 단계 결과 메모: 단계 요청에서 실행마다 달라지는 값(파이프라인/보고서/프로젝트 id, 라벨/파일 id, 파일명)을 뺀
+// 정규화한 입력 + 단계 버전의 SHA-256을 키로 결과를 저장하고, 같은 입력이면 AI 호출 없이 재사용
+// 다른 프로젝트 간 재사용은 결과의 id 위치가 정해진 번역 단계만 가능 (요청 순서 기준으로 현재 라벨 id로 바꿈)
+// 그 외 단계는 결과 형식을 알 수 없어 id가 모두 같을 때(같은 프로젝트의 재실행)만 재사용
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StageOutputMemo {
+
+    private static final Set<String> VOLATILE_FIELDS = Set.of("pipelineId", "reportId", "projectId");
+    private static final String FILE_ID_FIELD = "fileId";
+
+    // 단계 결과에서 id가 들어가는 위치 (AI 결과 형식 기준: 배열 필드 → 각 원소의 id 필드)
+    private static final Map<PipelineStage, List<IdLocation>> ID_LOCATIONS = Map.of(
+            PipelineStage.TRANSLATION, List.of(new IdLocation("translations", "id", false)));
+
+    private final StageOutputRepository stageOutputRepository;
+    private final AiClientProperties aiClientProperties;
+    private final ObjectMapper objectMapper;
+
+    @Value("${pipeline.memo.enabled:true}")
+    private boolean enabled;
+
+    // 저장된 결과가 있으면 반환, 없으면 compute 결과를 저장 후 반환 (실패한 실행은 저장하지 않음)
+    public String computeIfAbsent(PipelineStage stage, String requestJson, Supplier<String> compute) {
+        if (!enabled) {
+            return compute.get();
+        }
+
+        ObjectNode canonical = (ObjectNode) readTree(requestJson).deepCopy();
+        References references = stripReferences(canonical);
+        canonical.put("stageVersion", aiClientProperties.versionFor(stage));
+        String inputHash = hash(canonical);
+
+        StageOutput memo = stageOutputRepository.findByStageAndInputHash(stage.getPath(), inputHash).orElse(null);
+        String reused = memo != null ? remap(stage, memo, references) : null;
+        if (reused != null) {
+            stageOutputRepository.markUsed(memo.getId(), LocalDateTime.now());
+            log.info("단계 결과 재사용: stage={}, inputHash={}", stage, inputHash);
+            return reused;
+        }
+
+        String result = compute.get();
+        // 결과가 JSON이 아니면 저장하지 않고 그대로 반환 (이후 검증에서 실패 처리)
+        if (isJson(result)) {
+            try {
+                stageOutputRepository.insertIfAbsent(stage.getPath(), inputHash, write(references), result, LocalDateTime.now());
+            } catch (RuntimeException e) {
+                // 메모 저장 실패는 단계 결과에 영향을 주지 않음
+                log.warn("단계 결과 메모 저장 실패: stage={}, inputHash={}", stage, inputHash, e);
+            }
+        }
+        return result;
+    }
+
+    // 라벨/이미지 id는 순서 목록으로 따로 모으고 입력에서 제거
+    private References stripReferences(ObjectNode request) {
+        VOLATILE_FIELDS.forEach(request::remove);
+        References references = new References();
+        JsonNode labels = request.path("labelData");
+        for (JsonNode label : labels) {
+            references.labelIds.add(label.path("id").asLong());
+            ((ObjectNode) label).remove("id");
+        }
+        JsonNode images = request.path("images");
+        for (JsonNode image : images) {
+            references.fileIds.add(image.path(FILE_ID_FIELD).asLong());
+            ((ObjectNode) image).remove(FILE_ID_FIELD);
+            ((ObjectNode) image).remove("filename");
+        }
+        return references;
+    }
+
+    // id를 바꿀 위치를 모르는 단계에서 id가 다르면 null (재사용하지 않음)
+    private String remap(PipelineStage stage, StageOutput memo, References current) {
+        References stored = read(memo.getReferenceIds());
+        if (stored.equals(current)) {
+            return memo.getResult();
+        }
+        List<IdLocation> locations = ID_LOCATIONS.get(stage);
+        if (locations == null) {
+            log.debug("id 위치가 정해지지 않은 단계라 재사용하지 않음: stage={}", stage);
+            return null;
+        }
+        Map<Long, Long> labelIds = zip(stored.labelIds, current.labelIds);
+        Map<Long, Long> fileIds = zip(stored.fileIds, current.fileIds);
+        JsonNode result = readTree(memo.getResult());
+        for (IdLocation location : locations) {
+            replaceIds(result, location, location.file ? fileIds : labelIds);
+        }
+        return write(result);
+    }
+
+    private void replaceIds(JsonNode result, IdLocation location, Map<Long, Long> ids) {
+        for (JsonNode element : result.path(location.array)) {
+            JsonNode value = element.path(location.field);
+            if (element.isObject() && value.isIntegralNumber() && ids.containsKey(value.asLong())) {
+                ((ObjectNode) element).put(location.field, ids.get(value.asLong()));
+            }
+        }
+    }
+
+    private Map<Long, Long> zip(List<Long> from, List<Long> to) {
+        Map<Long, Long> ids = new HashMap<>();
+        for (int i = 0; i < Math.min(from.size(), to.size()); i++) {
+            ids.put(from.get(i), to.get(i));
+        }
+        return ids;
+    }
+
+    // 객체 필드는 이름순, 모든 값은 종류+길이를 앞에 붙여 기록 (필드 순서나 구분자 모호성에 영향받지 않음)
+    private String hash(JsonNode input) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, input);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void update(MessageDigest digest, JsonNode node) {
+        if (node.isObject()) {
+            Set<String> names = new TreeSet<>();
+            node.fieldNames().forEachRemaining(names::add);
+            digest.update((byte) '{');
+            for (String name : names) {
+                updateText(digest, name);
+                update(digest, node.get(name));
+            }
+            digest.update((byte) '}');
+        } else if (node.isArray()) {
+            digest.update((byte) '[');
+            for (JsonNode element : node) {
+                update(digest, element);
+            }
+            digest.update((byte) ']');
+        } else if (node.isNull() || node.isMissingNode()) {
+            digest.update((byte) 'z');
+        } else {
+            digest.update((byte) (node.isTextual() ? 's' : node.isNumber() ? 'n' : 'b'));
+            updateText(digest, node.asText());
+        }
+    }
+
+    private void updateText(MessageDigest digest, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private boolean isJson(String value) {
+        try {
+            return value != null && !value.isBlank() && objectMapper.readTree(value) != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new RuntimeException("단계 데이터를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private References read(String json) {
+        References references = new References();
+        if (json == null || json.isBlank()) {
+            return references;
+        }
+        JsonNode node = readTree(json);
+        node.path("labelData").forEach(id -> references.labelIds.add(id.asLong()));
+        node.path("images").forEach(id -> references.fileIds.add(id.asLong()));
+        return references;
+    }
+
+    private String write(References references) {
+        ObjectNode node = objectMapper.createObjectNode();
+        ArrayNode labels = node.putArray("labelData");
+        references.labelIds.forEach(labels::add);
+        ArrayNode images = node.putArray("images");
+        references.fileIds.forEach(images::add);
+        return write(node);
+    }
+
+    private String write(JsonNode node) {
+        try {
+            return objectMapper.writeValueAsString(node);
+        } catch (Exception e) {
+            throw new RuntimeException("단계 데이터를 기록할 수 없습니다.", e);
+        }
+    }
+
+    // file이 false면 라벨 id
+    private record IdLocation(String array, String field, boolean file) {
+    }
+
+    // 요청에 나온 순서대로의 라벨/이미지 id
+    private static class References {
+
+        private final List<Long> labelIds = new ArrayList<>();
+        private final List<Long> fileIds = new ArrayList<>();
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof References references
+                    && labelIds.equals(references.labelIds) && fileIds.equals(references.fileIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return labelIds.hashCode() * 31 + fileIds.hashCode();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.labeleven.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 내용 주소(SHA-256) 저장 결과. deduplicated면 같은 내용이 이미 있어 새로 쓰지 않음
+@Getter
+@RequiredArgsConstructor
+public class StoredBlob {
+
+    private final String sha256;
+    private final long size;
+    private final boolean deduplicated;
+}
@@ -0,0 +1,161 @@
+package com.labeleven.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.labeleven.dto.PipelineDTO;
+import com.labeleven.entity.TranslationMemory;
+import com.labeleven.repository.TranslationMemoryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+// 번역 메모리: 여러 프로젝트에 반복되는 원문(성분/알레르기 표시 등)의 번역을 재사용
+// 메모리 캐시(크기 제한, 오래 안 쓴 항목부터 제거) → DB(translation_memory) 순으로 조회
+@Service
+@RequiredArgsConstructor
+public class TranslationMemoryService {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int LOOKUP_BATCH_SIZE = 500;
+
+    private final TranslationMemoryRepository translationMemoryRepository;
+
+    @Value("${translation-memory.hot-tier.max-size:100000}")
+    private long hotTierMaxSize;
+
+    // key: 언어 + ":" + 정규화한 원문 해시, value: 번역
+    private Cache<String, String> hotTier;
+
+    private final LongAdder hotHits = new LongAdder();
+    private final LongAdder persistentHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder stored = new LongAdder();
+
+    @PostConstruct
+    protected void init() {
+        hotTier = Caffeine.newBuilder()
+                .maximumSize(hotTierMaxSize)
+                .recordStats()
+                .build();
+    }
+
+    // 원문 → 번역 (메모리에 없는 원문은 결과에서 제외). 같은 원문이 여러 번 있어도 조회는 한 번
+    public Map<String, String> lookup(String language, Collection<String> sourceTexts) {
+        Map<String, List<String>> textsByHash = new LinkedHashMap<>();
+        for (String sourceText : sourceTexts) {
+            String normalized = normalize(sourceText);
+            if (!normalized.isEmpty()) {
+                textsByHash.computeIfAbsent(hash(normalized), key -> new ArrayList<>()).add(sourceText);
+            }
+        }
+
+        Map<String, String> translations = new HashMap<>();
+        int found = 0;
+        List<String> remaining = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : textsByHash.entrySet()) {
+            String translated = hotTier.getIfPresent(cacheKey(language, entry.getKey()));
+            if (translated != null) {
+                hotHits.increment();
+                found++;
+                entry.getValue().forEach(text -> translations.put(text, translated));
+            } else {
+                remaining.add(entry.getKey());
+            }
+        }
+
+        for (int from = 0; from < remaining.size(); from += LOOKUP_BATCH_SIZE) {
+            List<String> batch = remaining.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, remaining.size()));
+            for (TranslationMemory memory : translationMemoryRepository.findByLanguageAndSourceHashIn(language, batch)) {
+                persistentHits.increment();
+                found++;
+                hotTier.put(cacheKey(language, memory.getSourceHash()), memory.getTranslatedText());
+                textsByHash.get(memory.getSourceHash())
+                        .forEach(text -> translations.put(text, memory.getTranslatedText()));
+            }
+        }
+
+        misses.add(textsByHash.size() - found);
+        return translations;
+    }
+
+    // 원문 → 번역을 기록 (정규화 결과가 같은 원문은 마지막 번역으로)
+    public void remember(String language, Map<String, String> translations) {
+        Map<String, TranslationMemory> entries = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : translations.entrySet()) {
+            String normalized = normalize(entry.getKey());
+            String translated = entry.getValue() != null ? entry.getValue().trim() : "";
+            if (normalized.isEmpty() || translated.isEmpty()) {
+                continue;
+            }
+            String sourceHash = hash(normalized);
+            entries.put(sourceHash, TranslationMemory.builder()
+                    .language(language)
+                    .sourceHash(sourceHash)
+                    .sourceText(normalized)
+                    .translatedText(translated)
+                    .build());
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        translationMemoryRepository.upsertAll(entries.values());
+        entries.values().forEach(entry ->
+                hotTier.put(cacheKey(language, entry.getSourceHash()), entry.getTranslatedText()));
+        stored.add(entries.size());
+    }
+
+    public PipelineDTO.TranslationMemoryStats getStats() {
+        long hits = hotHits.sum() + persistentHits.sum();
+        long total = hits + misses.sum();
+        return PipelineDTO.TranslationMemoryStats.builder()
+                .hotTierHits(hotHits.sum())
+                .persistentHits(persistentHits.sum())
+                .misses(misses.sum())
+                .hitRate(total > 0 ? (double) hits / total : 0)
+                .stored(stored.sum())
+                .hotTierSize(hotTier.estimatedSize())
+                .hotTierMaxSize(hotTierMaxSize)
+                .hotTierEvictions(hotTier.stats().evictionCount())
+                .persistentSize(translationMemoryRepository.count())
+                .build();
+    }
+
+    // 유니코드 정규화(NFKC) + 앞뒤 공백 제거 + 연속 공백 하나로 + 소문자
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).strip();
+        return WHITESPACE.matcher(normalized).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private String cacheKey(String language, String sourceHash) {
+        return language + ":" + sourceHash;
+    }
+
+    private String hash(String normalized) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.labeleven.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.labeleven.client.AiStageClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 번역 단계: 번역 메모리에 있는 원문은 AI에 보내지 않고, 나머지만 번역 요청 후 결과를 메모리에 기록
+// AI 결과 형식: {"translations": [{"id": <라벨 id>, "translatedValue": "..."}], ...}
+// 저장되는 결과에는 메모리에서 채운 항목이 "source": "memory"로 추가됨
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranslationStageExecutor {
+
+    private final TranslationMemoryService translationMemoryService;
+    private final AiStageClient aiStageClient;
+    private final ObjectMapper objectMapper;
+
+    // request: PipelineRunner가 만든 전체 번역 요청 (다시 구성하지 않고 메모리에 있는 항목만 빼서 전송)
+    public String execute(Long pipelineId, String request) {
+        ObjectNode aiRequest = (ObjectNode) readTree(request);
+        String language = aiRequest.path("targetLanguage").asText();
+        ArrayNode labels = (ArrayNode) aiRequest.path("labelData");
+        Map<Long, String> sourceTexts = new LinkedHashMap<>();
+        for (JsonNode label : labels) {
+            sourceTexts.put(label.path("id").asLong(), label.path("originalValue").asText(null));
+        }
+
+        Map<String, String> remembered = translationMemoryService.lookup(language, sourceTexts.values());
+        Map<Long, String> memoryTranslations = new LinkedHashMap<>();
+        sourceTexts.forEach((id, text) -> {
+            if (text != null && remembered.containsKey(text)) {
+                memoryTranslations.put(id, remembered.get(text));
+            }
+        });
+
+        ObjectNode result;
+        int requested = sourceTexts.size() - memoryTranslations.size();
+        if (requested > 0) {
+            for (Iterator<JsonNode> it = labels.elements(); it.hasNext(); ) {
+                if (memoryTranslations.containsKey(it.next().path("id").asLong())) {
+                    it.remove();
+                }
+            }
+            JsonNode response = readTree(aiStageClient.execute(PipelineStage.TRANSLATION, write(aiRequest)));
+            result = response.isObject() ? (ObjectNode) response : objectMapper.createObjectNode().set("data", response);
+            learn(language, result, sourceTexts);
+        } else {
+            result = objectMapper.createObjectNode();
+        }
+
+        ArrayNode translations = result.has("translations") && result.get("translations").isArray()
+                ? (ArrayNode) result.get("translations") : result.putArray("translations");
+        memoryTranslations.forEach((id, translated) -> translations.addObject()
+                .put("id", id)
+                .put("translatedValue", translated)
+                .put("source", "memory"));
+        result.putObject("translationMemory")
+                .put("language", language)
+                .put("memoryHits", memoryTranslations.size())
+                .put("requested", requested);
+
+        log.info("번역 단계: pipelineId={}, language={}, memoryHits={}, requested={}",
+                pipelineId, language, memoryTranslations.size(), requested);
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (Exception e) {
+            throw new RuntimeException("번역 결과 생성 실패", e);
+        }
+    }
+
+    // AI가 번역한 항목을 원문 기준으로 메모리에 기록 (형식이 다르면 기록하지 않음)
+    private void learn(String language, JsonNode result, Map<Long, String> sourceTexts) {
+        JsonNode translations = result.get("translations");
+        if (translations == null || !translations.isArray()) {
+            log.warn("번역 결과에 translations 배열이 없어 번역 메모리에 기록하지 않습니다.");
+            return;
+        }
+
+        Map<String, String> learned = new HashMap<>();
+        for (JsonNode translation : translations) {
+            long id = translation.path("id").asLong(-1);
+            String translated = translation.path("translatedValue").asText(null);
+            String source = sourceTexts.get(id);
+            if (source != null && translated != null) {
+                learned.put(source, translated);
+            }
+        }
+        try {
+            translationMemoryService.remember(language, learned);
+        } catch (RuntimeException e) {
+            // 메모리 기록 실패는 단계 결과에 영향을 주지 않음
+            log.warn("번역 메모리 기록 실패: language={}, count={}", language, learned.size(), e);
+        }
+    }
+
+    private String write(JsonNode node) {
+        try {
+            return objectMapper.writeValueAsString(node);
+        } catch (Exception e) {
+            throw new RuntimeException("AI 요청 생성 실패", e);
+        }
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new RuntimeException("AI 서버 응답이 올바른 JSON이 아닙니다.");
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.labeleven.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// 로컬 디스크 저장소. 임시 파일과 같은 파일시스템에서 복사 없이 하드 링크로 저장
+@Slf4j
+public class LocalStorageBackend implements StorageBackend {
+
+    private final Path root;
+
+    public LocalStorageBackend(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public boolean storeIfAbsent(String key, Path source, long size, String contentType) {
+        Path target = resolve(key);
+        if (Files.exists(target)) {
+            return false;
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            // rename은 대상이 있으면 덮어쓰므로, 대상이 있으면 원자적으로 실패하는 link로 공개한 뒤 원본 삭제
+            Files.createLink(target, source);
+        } catch (FileAlreadyExistsException e) {
+            // 동시에 같은 내용을 저장한 요청이 먼저 공개함
+            return false;
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장에 실패했습니다.", e);
+        }
+        try {
+            Files.deleteIfExists(source);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", source, e);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public long size(String key) {
+        try {
+            return Files.size(resolve(key));
+        } catch (NoSuchFileException e) {
+            return -1;
+        } catch (IOException e) {
+            throw new RuntimeException("파일 정보를 읽을 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key, long start, long end) {
+        try {
+            FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ);
+            channel.position(start);
+            InputStream in = Channels.newInputStream(channel);
+            return new BoundedInputStream(in, end - start + 1);
+        } catch (NoSuchFileException e) {
+            throw new RuntimeException("파일을 찾을 수 없습니다.", e);
+        } catch (IOException e) {
+            throw new RuntimeException("파일을 읽을 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public void download(String key, Path target) {
+        try {
+            Files.copy(resolve(key), target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException("파일을 읽을 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패: {}", key, e);
+        }
+    }
+
+    @Override
+    public Path localPath(String key) {
+        return resolve(key);
+    }
+
+    // 저장소 루트 밖을 가리키는 key 차단
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new RuntimeException("잘못된 파일 경로입니다.");
+        }
+        return path;
+    }
+
+    // 구간 끝까지만 읽는 스트림
+    private static class BoundedInputStream extends InputStream {
+
+        private final InputStream in;
+        private long remaining;
+
+        private BoundedInputStream(InputStream in, long length) {
+            this.in = in;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = in.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = in.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.labeleven.storage;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+// S3 호환 저장소 (AWS S3, MinIO 등). 여러 노드가 같은 버킷을 보므로 어느 노드에서든 파일 조회 가능
+// 큰 파일은 TransferManager가 파트로 나눠 병렬 업로드하고, 다운로드는 구간(Range) GET을 병렬로 받아 위치 지정 쓰기
+@Slf4j
+public class S3StorageBackend implements StorageBackend, AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final AmazonS3 s3;
+    private final TransferManager transferManager;
+    private final String bucket;
+    private final long partSize;
+    private final Executor downloadExecutor;
+
+    public S3StorageBackend(AmazonS3 s3, TransferManager transferManager, String bucket,
+                            long partSize, Executor downloadExecutor) {
+        this.s3 = s3;
+        this.transferManager = transferManager;
+        this.bucket = bucket;
+        this.partSize = partSize;
+        this.downloadExecutor = downloadExecutor;
+    }
+
+    // 내용 주소 key이므로 이미 있으면 같은 내용 (동시에 올려도 결과가 같음)
+    @Override
+    public boolean storeIfAbsent(String key, Path source, long size, String contentType) {
+        if (exists(key)) {
+            return false;
+        }
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(size);
+        if (contentType != null) {
+            metadata.setContentType(contentType);
+        }
+        try {
+            transferManager.upload(new PutObjectRequest(bucket, key, source.toFile()).withMetadata(metadata))
+                    .waitForCompletion();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("파일 저장이 중단되었습니다.", e);
+        } catch (AmazonClientException e) {
+            throw new RuntimeException("파일 저장에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return size(key) >= 0;
+    }
+
+    @Override
+    public long size(String key) {
+        try {
+            return s3.getObjectMetadata(bucket, key).getContentLength();
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return -1;
+            }
+            throw new RuntimeException("파일 정보를 읽을 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key, long start, long end) {
+        try {
+            S3Object object = s3.getObject(new GetObjectRequest(bucket, key).withRange(start, end));
+            return object.getObjectContent();
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new RuntimeException("파일을 찾을 수 없습니다.", e);
+            }
+            throw new RuntimeException("파일을 읽을 수 없습니다.", e);
+        }
+    }
+
+    // partSize 단위 구간을 병렬로 받아 대상 파일의 같은 위치에 기록
+    @Override
+    public void download(String key, Path target) {
+        long size = size(key);
+        if (size < 0) {
+            throw new RuntimeException("파일을 찾을 수 없습니다.");
+        }
+
+        try (FileChannel channel = FileChannel.open(target,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (size == 0) {
+                return;
+            }
+            List<CompletableFuture<Void>> parts = new ArrayList<>();
+            for (long start = 0; start < size; start += partSize) {
+                long partStart = start;
+                long partEnd = Math.min(start + partSize, size) - 1;
+                parts.add(CompletableFuture.runAsync(
+                        () -> downloadRange(key, partStart, partEnd, channel), downloadExecutor));
+            }
+            CompletableFuture.allOf(parts.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+        } catch (IOException e) {
+            throw new RuntimeException("파일을 받을 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            s3.deleteObject(bucket, key);
+        } catch (AmazonClientException e) {
+            log.warn("파일 삭제 실패: {}", key, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        transferManager.shutdownNow(true);
+    }
+
+    private void downloadRange(String key, long start, long end, FileChannel channel) {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long position = start;
+        try (InputStream in = open(key, start, end)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                ByteBuffer source = ByteBuffer.wrap(buffer, 0, read);
+                while (source.hasRemaining()) {
+                    position += channel.write(source, position);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("파일을 받을 수 없습니다.", e);
+        }
+        if (position != end + 1) {
+            throw new RuntimeException("파일을 끝까지 받지 못했습니다.");
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.labeleven.storage;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aws.s3")
+public class S3StorageProperties {
+
+    private String bucket;
+
+    private String region = "ap-northeast-2";
+
+    // 비우면 기본 자격 증명 체인(환경 변수, 인스턴스 프로파일 등) 사용
+    private String accessKey;
+
+    private String secretKey;
+
+    // MinIO 등 S3 호환 저장소 주소 (비우면 AWS 리전 엔드포인트)
+    private String endpoint;
+
+    private boolean pathStyleAccess = false;
+
+    // 이 크기 이상이면 멀티파트로 나눠 병렬 업로드
+    private DataSize multipartThreshold = DataSize.ofMegabytes(16);
+
+    // 멀티파트 업로드/병렬 구간 다운로드 단위
+    private DataSize partSize = DataSize.ofMegabytes(8);
+
+    private int transferThreads = 8;
+
+    private int maxConnections = 50;
+}
@@ -0,0 +1,30 @@
+package com.labeleven.storage;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+// 업로드 파일 저장소 추상화 (storage.backend: local | s3)
+// key는 "blobs/ab/cd/<sha256>"처럼 슬래시로 구분한 상대 경로
+public interface StorageBackend {
+
+    // 로컬 임시 파일을 key로 저장. 이미 같은 key가 있으면 저장하지 않고 false 반환
+    boolean storeIfAbsent(String key, Path source, long size, String contentType);
+
+    boolean exists(String key);
+
+    // 없으면 -1
+    long size(String key);
+
+    // [start, end] 구간 (end 포함)
+    InputStream open(String key, long start, long end);
+
+    // 전체 내용을 로컬 파일로 받음
+    void download(String key, Path target);
+
+    void delete(String key);
+
+    // 로컬 디스크에 있는 저장소면 파일 경로, 원격 저장소면 null (복사 없이 바로 읽을 수 있는지 판단)
+    default Path localPath(String key) {
+        return null;
+    }
+}
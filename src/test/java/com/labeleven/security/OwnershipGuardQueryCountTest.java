@@ -0,0 +1,147 @@
+package com.labeleven.security;
+
+import com.labeleven.entity.LabelData;
+import com.labeleven.entity.Pipeline;
+import com.labeleven.entity.Project;
+import com.labeleven.entity.Report;
+import com.labeleven.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 소유권 확인이 요청당 쿼리 한 번으로 끝나는지 Hibernate 통계로 확인
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(OwnershipGuard.class)
+class OwnershipGuardQueryCountTest {
+
+    @Autowired
+    private OwnershipGuard ownershipGuard;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long ownerId;
+    private Long otherUserId;
+    private Long projectId;
+    private Long reportId;
+    private Long pipelineId;
+    private Long labelDataId;
+
+    @BeforeEach
+    void setUp() {
+        User owner = entityManager.persist(user("owner"));
+        User other = entityManager.persist(user("other"));
+        Project project = entityManager.persist(Project.builder()
+                .title("프로젝트")
+                .country("US")
+                .status("PROCESSING")
+                .user(owner)
+                .build());
+        Report report = entityManager.persist(Report.builder()
+                .project(project)
+                .userId(owner.getId())
+                .reportType("VALIDATION")
+                .status("APPROVED")
+                .build());
+        Pipeline pipeline = entityManager.persist(Pipeline.builder()
+                .report(report)
+                .status("RUNNING")
+                .progress(0)
+                .attempt(1)
+                .build());
+        LabelData labelData = entityManager.persist(LabelData.builder()
+                .fieldName("name")
+                .originalValue("라벨")
+                .category("basic")
+                .project(project)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        ownerId = owner.getId();
+        otherUserId = other.getId();
+        projectId = project.getId();
+        reportId = report.getId();
+        pipelineId = pipeline.getId();
+        labelDataId = labelData.getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void projectChecksUseOneQuery() {
+        assertThat(ownershipGuard.getProject(projectId, ownerId).getId()).isEqualTo(projectId);
+        assertQueries(1);
+
+        ownershipGuard.checkProject(projectId, ownerId);
+        assertQueries(1);
+    }
+
+    @Test
+    void reportChecksUseOneQuery() {
+        assertThat(ownershipGuard.getReport(reportId, ownerId).getId()).isEqualTo(reportId);
+        assertQueries(1);
+
+        ownershipGuard.checkReport(reportId, ownerId);
+        assertQueries(1);
+    }
+
+    @Test
+    void pipelineChecksUseOneQuery() {
+        assertThat(ownershipGuard.getPipeline(pipelineId, ownerId).getId()).isEqualTo(pipelineId);
+        assertQueries(1);
+
+        ownershipGuard.checkPipeline(pipelineId, ownerId);
+        assertQueries(1);
+
+        assertThat(ownershipGuard.getPipelineStatus(pipelineId, ownerId)).isEqualTo("RUNNING");
+        assertQueries(1);
+    }
+
+    @Test
+    void labelDataCheckUsesOneQuery() {
+        assertThat(ownershipGuard.getLabelData(labelDataId, ownerId).getId()).isEqualTo(labelDataId);
+        assertQueries(1);
+    }
+
+    // 실패한 경우에만 존재 여부를 한 번 더 조회해 권한 없음/없음을 구분
+    @Test
+    void deniedCheckAddsOneExistenceQuery() {
+        assertThatThrownBy(() -> ownershipGuard.getReport(reportId, otherUserId))
+                .hasMessage("권한이 없습니다.");
+        assertQueries(2);
+
+        assertThatThrownBy(() -> ownershipGuard.checkProject(-1L, ownerId))
+                .hasMessage("프로젝트를 찾을 수 없습니다.");
+        assertQueries(2);
+    }
+
+    private void assertQueries(long expected) {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private static User user(String name) {
+        return User.builder()
+                .username(name)
+                .email(name + "@example.com")
+                .password("password")
+                .role("USER")
+                .build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.labeleven.service;
+
+import com.labeleven.dto.LabelDataDTO;
+import com.labeleven.entity.LabelData;
+import com.labeleven.entity.Project;
+import com.labeleven.entity.User;
+import com.labeleven.repository.LabelDataRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 라벨 데이터 대량 저장 벤치마크: 청크 배치 insert(SEQUENCE id) vs 항목마다 save + 커밋(기존 방식)
+// 실행: mvn test -Dtest=LabelDataBulkInsertBenchmark -Dbenchmark=true [-Dbenchmark.rows=20000]
+// 기본은 H2 메모리 DB라 네트워크 왕복이 없어 실제 MariaDB보다 차이가 작게 나옴
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(LabelDataBatchWriter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LabelDataBulkInsertBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 10_000);
+    private static final int CHUNK_SIZE = 1000;
+    private static final int WARMUP_ROWS = 1000;
+
+    @Autowired
+    private LabelDataBatchWriter labelDataBatchWriter;
+
+    @Autowired
+    private LabelDataRepository labelDataRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Long userId;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = User.builder()
+                    .username("bench")
+                    .email("bench@example.com")
+                    .password("password")
+                    .role("USER")
+                    .build();
+            entityManager.persist(user);
+            Project project = Project.builder()
+                    .title("벤치마크")
+                    .country("US")
+                    .status("PROCESSING")
+                    .user(user)
+                    .build();
+            entityManager.persist(project);
+            userId = user.getId();
+            projectId = project.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM LabelData l WHERE l.project.id = :projectId")
+                    .setParameter("projectId", projectId)
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM Project p WHERE p.id = :projectId")
+                    .setParameter("projectId", projectId)
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM User u WHERE u.id = :userId")
+                    .setParameter("userId", userId)
+                    .executeUpdate();
+        });
+    }
+
+    @Test
+    void batchedInsertVersusPerRowSave() {
+        List<LabelDataDTO.CreateRequest> items = items(ROWS);
+
+        // JIT/커넥션 풀 워밍업 (결과에서 제외)
+        insertBatched(items.subList(0, WARMUP_ROWS));
+        insertPerRow(items.subList(0, WARMUP_ROWS));
+
+        Result batched = measure("batched", () -> insertBatched(items));
+        Result perRow = measure("per-row", () -> insertPerRow(items));
+
+        assertThat(labelDataRepository.countByProjectId(projectId)).isEqualTo(2L * WARMUP_ROWS + 2L * ROWS);
+        // 배치 경로는 hibernate.jdbc.batch_size(50)개씩 묶여 나가므로 문장 준비 횟수가 훨씬 적어야 함
+        assertThat(batched.statements).isLessThan(perRow.statements);
+    }
+
+    private void insertBatched(List<LabelDataDTO.CreateRequest> items) {
+        for (int from = 0; from < items.size(); from += CHUNK_SIZE) {
+            labelDataBatchWriter.writeChunk(projectId, items.subList(from, Math.min(from + CHUNK_SIZE, items.size())));
+        }
+    }
+
+    // 기존 단건 API와 같이 항목마다 별도 트랜잭션으로 save
+    private void insertPerRow(List<LabelDataDTO.CreateRequest> items) {
+        for (LabelDataDTO.CreateRequest item : items) {
+            transactionTemplate.executeWithoutResult(status -> labelDataRepository.save(LabelData.builder()
+                    .fieldName(item.getFieldName())
+                    .originalValue(item.getOriginalValue())
+                    .translatedValue(item.getTranslatedValue())
+                    .category(item.getCategory())
+                    .project(entityManager.getReference(Project.class, projectId))
+                    .build()));
+        }
+    }
+
+    private Result measure(String name, Runnable insert) {
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        insert.run();
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Result result = new Result(elapsedNanos, statistics.getPrepareStatementCount());
+        System.out.printf("[benchmark] %-8s rows=%d elapsed=%dms rows/sec=%.0f statements=%d%n",
+                name, ROWS, elapsedNanos / 1_000_000, ROWS * 1_000_000_000.0 / elapsedNanos, result.statements);
+        return result;
+    }
+
+    private static List<LabelDataDTO.CreateRequest> items(int count) {
+        List<LabelDataDTO.CreateRequest> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(LabelDataDTO.CreateRequest.builder()
+                    .fieldName("field" + i)
+                    .originalValue("원문 " + i)
+                    .translatedValue("translated " + i)
+                    .category("basic")
+                    .build());
+        }
+        return items;
+    }
+
+    private record Result(long elapsedNanos, long statements) {
+    }
+}
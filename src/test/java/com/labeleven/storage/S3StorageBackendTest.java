@@ -0,0 +1,123 @@
+package com.labeleven.storage;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 프로세스 내 S3 스텁 서버를 상대로 S3StorageBackend의 업로드(단일/멀티파트), 구간 읽기, 병렬 다운로드 확인
+class S3StorageBackendTest {
+
+    private static final String BUCKET = "labeleven-test";
+    private static final long MULTIPART_THRESHOLD = 1024 * 1024;
+    private static final long PART_SIZE = 256 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    private StubS3Server stub;
+    private AmazonS3 s3;
+    private ExecutorService downloadExecutor;
+    private S3StorageBackend backend;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new StubS3Server();
+        s3 = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("test", "test")))
+                .withPathStyleAccessEnabled(true)
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(stub.getEndpoint(), "us-east-1"))
+                .build();
+        TransferManager transferManager = TransferManagerBuilder.standard()
+                .withS3Client(s3)
+                .withMultipartUploadThreshold(MULTIPART_THRESHOLD)
+                .withMinimumUploadPartSize(PART_SIZE)
+                .build();
+        downloadExecutor = Executors.newFixedThreadPool(4);
+        backend = new S3StorageBackend(s3, transferManager, BUCKET, PART_SIZE, downloadExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        backend.close();
+        downloadExecutor.shutdownNow();
+        stub.close();
+    }
+
+    @Test
+    void putOnceAndReadRange() throws IOException {
+        byte[] data = randomBytes(10_000);
+        Path source = write("small", data);
+
+        assertThat(backend.storeIfAbsent("blobs/aa/bb/small", source, data.length, "image/png")).isTrue();
+        assertThat(backend.storeIfAbsent("blobs/aa/bb/small", source, data.length, "image/png")).isFalse();
+        assertThat(backend.exists("blobs/aa/bb/small")).isTrue();
+        assertThat(backend.size("blobs/aa/bb/small")).isEqualTo(data.length);
+
+        try (InputStream in = backend.open("blobs/aa/bb/small", 100, 1099)) {
+            assertThat(in.readAllBytes()).isEqualTo(Arrays.copyOfRange(data, 100, 1100));
+        }
+    }
+
+    @Test
+    void multipartUploadAndParallelDownload() throws IOException {
+        byte[] data = randomBytes((int) (MULTIPART_THRESHOLD * 2 + 12_345));
+        Path source = write("large", data);
+
+        assertThat(backend.storeIfAbsent("blobs/cc/dd/large", source, data.length, null)).isTrue();
+        // 멀티파트로 올라간 객체의 ETag는 "md5-파트수" 형식
+        assertThat(s3.getObjectMetadata(BUCKET, "blobs/cc/dd/large").getETag()).contains("-");
+        assertThat(stub.getObjectCount()).isEqualTo(1);
+
+        Path target = tempDir.resolve("downloaded");
+        backend.download("blobs/cc/dd/large", target);
+        assertThat(Files.readAllBytes(target)).isEqualTo(data);
+
+        // 파트 경계를 걸치는 구간
+        try (InputStream in = backend.open("blobs/cc/dd/large", PART_SIZE - 10, PART_SIZE + 9)) {
+            assertThat(in.readAllBytes())
+                    .isEqualTo(Arrays.copyOfRange(data, (int) PART_SIZE - 10, (int) PART_SIZE + 10));
+        }
+    }
+
+    @Test
+    void missingAndDeletedObjects() throws IOException {
+        assertThat(backend.size("blobs/ee/ff/missing")).isEqualTo(-1);
+        assertThatThrownBy(() -> backend.download("blobs/ee/ff/missing", tempDir.resolve("missing")))
+                .hasMessage("파일을 찾을 수 없습니다.");
+
+        byte[] data = randomBytes(100);
+        backend.storeIfAbsent("blobs/ee/ff/deleted", write("deleted", data), data.length, null);
+        backend.delete("blobs/ee/ff/deleted");
+        assertThat(backend.exists("blobs/ee/ff/deleted")).isFalse();
+    }
+
+    private Path write(String name, byte[] data) throws IOException {
+        return Files.write(tempDir.resolve(name), data);
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,300 @@
+package com.labeleven.storage;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 테스트용 프로세스 내 S3 호환 서버 (임의 포트, path-style, 인증 검사 없음, 메모리 보관)
+// 지원: PUT/HEAD/GET(Range)/DELETE 객체, 멀티파트 업로드(시작/파트/완료/취소)
+@Slf4j
+public class StubS3Server implements AutoCloseable {
+
+    private static final String XML_NAMESPACE = "http://s3.amazonaws.com/doc/2006-03-01/";
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d*)");
+
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrentSkipListMap<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+
+    public StubS3Server() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 128);
+        this.workers = Executors.newCachedThreadPool();
+        server.setExecutor(workers);
+        server.createContext("/", this::handle);
+        server.start();
+        log.info("S3 스텁 서버 시작: {}", getEndpoint());
+    }
+
+    public String getEndpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int getObjectCount() {
+        return objects.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        workers.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String key = URLDecoder.decode(exchange.getRequestURI().getRawPath(), StandardCharsets.UTF_8);
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> {
+                    byte[] body = readBody(exchange);
+                    if (query.containsKey("uploadId")) {
+                        uploadPart(exchange, query, body);
+                    } else {
+                        objects.put(key, new StoredObject(body, md5(body)));
+                        exchange.getResponseHeaders().set("ETag", quote(objects.get(key).etag()));
+                        exchange.sendResponseHeaders(200, -1);
+                    }
+                }
+                case "POST" -> {
+                    readBody(exchange);
+                    if (query.containsKey("uploads")) {
+                        initiateMultipart(exchange, key);
+                    } else {
+                        completeMultipart(exchange, key, query.get("uploadId"));
+                    }
+                }
+                case "HEAD" -> head(exchange, key);
+                case "GET" -> {
+                    if (query.containsKey("uploadId")) {
+                        listParts(exchange, key, query.get("uploadId"));
+                    } else {
+                        get(exchange, key);
+                    }
+                }
+                case "DELETE" -> {
+                    if (query.containsKey("uploadId")) {
+                        multipartUploads.remove(query.get("uploadId"));
+                    } else {
+                        objects.remove(key);
+                    }
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+        } catch (RuntimeException e) {
+            log.warn("S3 스텁 요청 처리 실패", e);
+            exchange.sendResponseHeaders(500, -1);
+        }
+    }
+
+    private void uploadPart(HttpExchange exchange, Map<String, String> query, byte[] body) throws IOException {
+        ConcurrentSkipListMap<Integer, byte[]> parts = multipartUploads.get(query.get("uploadId"));
+        if (parts == null) {
+            sendError(exchange, 404, "NoSuchUpload");
+            return;
+        }
+        parts.put(Integer.parseInt(query.get("partNumber")), body);
+        exchange.getResponseHeaders().set("ETag", quote(md5(body)));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void initiateMultipart(HttpExchange exchange, String key) throws IOException {
+        String uploadId = UUID.randomUUID().toString();
+        multipartUploads.put(uploadId, new ConcurrentSkipListMap<>());
+        sendXml(exchange, 200, "<InitiateMultipartUploadResult xmlns=\"" + XML_NAMESPACE + "\">"
+                + "<Bucket>" + bucketOf(key) + "</Bucket><Key>" + objectKeyOf(key) + "</Key>"
+                + "<UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>");
+    }
+
+    // 파트 번호 순으로 이어 붙임 (ETag는 S3와 같은 "md5-파트수" 형식)
+    private void completeMultipart(HttpExchange exchange, String key, String uploadId) throws IOException {
+        ConcurrentSkipListMap<Integer, byte[]> parts = uploadId != null ? multipartUploads.remove(uploadId) : null;
+        if (parts == null) {
+            sendError(exchange, 404, "NoSuchUpload");
+            return;
+        }
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (byte[] part : parts.values()) {
+            content.writeBytes(part);
+        }
+        byte[] data = content.toByteArray();
+        String etag = md5(data) + "-" + parts.size();
+        objects.put(key, new StoredObject(data, etag));
+        sendXml(exchange, 200, "<CompleteMultipartUploadResult xmlns=\"" + XML_NAMESPACE + "\">"
+                + "<Location>" + getEndpoint() + key + "</Location>"
+                + "<Bucket>" + bucketOf(key) + "</Bucket><Key>" + objectKeyOf(key) + "</Key>"
+                + "<ETag>" + quote(etag) + "</ETag></CompleteMultipartUploadResult>");
+    }
+
+    // TransferManager가 파트 업로드 전에 이미 올라간 파트를 조회함
+    private void listParts(HttpExchange exchange, String key, String uploadId) throws IOException {
+        ConcurrentSkipListMap<Integer, byte[]> parts = multipartUploads.get(uploadId);
+        if (parts == null) {
+            sendError(exchange, 404, "NoSuchUpload");
+            return;
+        }
+        StringBuilder xml = new StringBuilder("<ListPartsResult xmlns=\"" + XML_NAMESPACE + "\">")
+                .append("<Bucket>").append(bucketOf(key)).append("</Bucket>")
+                .append("<Key>").append(objectKeyOf(key)).append("</Key>")
+                .append("<UploadId>").append(uploadId).append("</UploadId>")
+                .append("<IsTruncated>false</IsTruncated>");
+        parts.forEach((number, data) -> xml.append("<Part><PartNumber>").append(number).append("</PartNumber>")
+                .append("<ETag>").append(quote(md5(data))).append("</ETag>")
+                .append("<Size>").append(data.length).append("</Size></Part>"));
+        sendXml(exchange, 200, xml.append("</ListPartsResult>").toString());
+    }
+
+    private void head(HttpExchange exchange, String key) throws IOException {
+        StoredObject object = objects.get(key);
+        if (object == null) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("ETag", quote(object.etag()));
+        exchange.getResponseHeaders().set("Content-Length", String.valueOf(object.data().length));
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void get(HttpExchange exchange, String key) throws IOException {
+        StoredObject object = objects.get(key);
+        if (object == null) {
+            sendError(exchange, 404, "NoSuchKey");
+            return;
+        }
+
+        byte[] data = object.data();
+        int start = 0;
+        int end = data.length - 1;
+        int status = 200;
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        Matcher matcher = range != null ? RANGE.matcher(range) : null;
+        if (matcher != null && matcher.matches()) {
+            start = Integer.parseInt(matcher.group(1));
+            if (!matcher.group(2).isEmpty()) {
+                end = Math.min(Integer.parseInt(matcher.group(2)), data.length - 1);
+            }
+            if (start > end) {
+                sendError(exchange, 416, "InvalidRange");
+                return;
+            }
+            status = 206;
+            exchange.getResponseHeaders().set("Content-Range", "bytes " + start + "-" + end + "/" + data.length);
+        }
+
+        exchange.getResponseHeaders().set("ETag", quote(object.etag()));
+        exchange.getResponseHeaders().set("Accept-Ranges", "bytes");
+        exchange.sendResponseHeaders(status, end - start + 1);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(data, start, end - start + 1);
+        }
+    }
+
+    // SDK는 서명된 청크 인코딩(aws-chunked)으로 본문을 보낼 수 있으므로 풀어서 저장
+    private byte[] readBody(HttpExchange exchange) throws IOException {
+        byte[] raw;
+        try (InputStream in = exchange.getRequestBody()) {
+            raw = in.readAllBytes();
+        }
+        String contentSha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        if (contentSha == null || !contentSha.startsWith("STREAMING-")) {
+            return raw;
+        }
+
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream(raw.length);
+        int position = 0;
+        while (position < raw.length) {
+            int lineEnd = indexOfCrlf(raw, position);
+            String header = new String(raw, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";", 2)[0].trim(), 16);
+            position = lineEnd + 2;
+            if (size == 0) {
+                break;
+            }
+            decoded.write(raw, position, size);
+            position += size + 2;
+        }
+        return decoded.toByteArray();
+    }
+
+    private int indexOfCrlf(byte[] data, int from) {
+        for (int i = from; i < data.length - 1; i++) {
+            if (data[i] == '\r' && data[i + 1] == '\n') {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("잘못된 청크 인코딩입니다.");
+    }
+
+    private void sendError(HttpExchange exchange, int status, String code) throws IOException {
+        sendXml(exchange, status, "<Error><Code>" + code + "</Code><Message>" + code + "</Message></Error>");
+    }
+
+    private void sendXml(HttpExchange exchange, int status, String xml) throws IOException {
+        byte[] body = xml.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            String[] parts = pair.split("=", 2);
+            query.put(URLDecoder.decode(parts[0], StandardCharsets.UTF_8),
+                    parts.length > 1 ? URLDecoder.decode(parts[1], StandardCharsets.UTF_8) : "");
+        }
+        return query;
+    }
+
+    // 경로: /{bucket}/{key}
+    private String bucketOf(String path) {
+        int slash = path.indexOf('/', 1);
+        return slash > 0 ? path.substring(1, slash) : path.substring(1);
+    }
+
+    private String objectKeyOf(String path) {
+        int slash = path.indexOf('/', 1);
+        return slash > 0 ? path.substring(slash + 1) : "";
+    }
+
+    private String quote(String etag) {
+        return "\"" + etag + "\"";
+    }
+
+    private String md5(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record StoredObject(byte[] data, String etag) {
+    }
+}